@@ -0,0 +1,100 @@
+package com.devcourse.springbootbasic.application.benchmark;
+
+import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class BenchmarkDataset {
+
+    public static final long SEED = 20230601L;
+
+    private static final Path DATASET_DIRECTORY = Path.of("build", "jmh-datasets");
+    private static final VoucherType[] VOUCHER_TYPES = VoucherType.values();
+    private static final String[] CUSTOMER_NAMES = {"사과", "딸기", "포도", "바나나", "customer"};
+
+    private BenchmarkDataset() {}
+
+    public static Stream<Voucher> vouchers(int rows) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        return IntStream.range(0, rows)
+                .mapToObj(i -> voucher(random));
+    }
+
+    public static Stream<Customer> customers(int rows) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        return IntStream.range(0, rows)
+                .mapToObj(i -> new Customer(i, CUSTOMER_NAMES[random.nextInt(CUSTOMER_NAMES.length)] + i));
+    }
+
+    public static Path voucherFile(int rows) {
+        Path path = DATASET_DIRECTORY.resolve("vouchers-" + rows + ".csv");
+        if (Files.exists(path)) {
+            return path;
+        }
+        try {
+            Files.createDirectories(DATASET_DIRECTORY);
+            Path temporary = Files.createTempFile(DATASET_DIRECTORY, "vouchers-", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                for (Voucher voucher : (Iterable<Voucher>) vouchers(rows)::iterator) {
+                    writer.write(VoucherConverter.convertVoucherToCsv(voucher));
+                    writer.newLine();
+                }
+            }
+            return Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Path copyOf(Path source, String prefix) {
+        try {
+            Path target = Files.createTempFile(DATASET_DIRECTORY, prefix, ".csv");
+            return Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Path emptyFile(String prefix) {
+        try {
+            Files.createDirectories(DATASET_DIRECTORY);
+            return Files.createTempFile(DATASET_DIRECTORY, prefix, ".csv");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(path.resolveSibling(path.getFileName() + ".idx"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Voucher voucher(SplittableRandom random) {
+        VoucherType voucherType = VOUCHER_TYPES[random.nextInt(VOUCHER_TYPES.length)];
+        long scaledValue = switch (voucherType) {
+            case FIXED_AMOUNT -> random.nextLong(1, 1_000_000);
+            case PERCENT_DISCOUNT -> random.nextLong(1, 10_001);
+        };
+        UUID voucherId = new UUID(random.nextLong(), random.nextLong());
+        return new Voucher(voucherId, voucherType, DiscountValue.ofScaled(voucherType, scaledValue));
+    }
+
+}
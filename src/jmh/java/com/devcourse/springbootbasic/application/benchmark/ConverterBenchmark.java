@@ -0,0 +1,86 @@
+package com.devcourse.springbootbasic.application.benchmark;
+
+import com.devcourse.springbootbasic.application.converter.CustomerConverter;
+import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private List<Voucher> vouchers;
+    private List<Customer> customers;
+    private String[] voucherLines;
+    private String[] customerLines;
+
+    @Setup
+    public void setUp() {
+        vouchers = BenchmarkDataset.vouchers(ROWS).toList();
+        customers = BenchmarkDataset.customers(ROWS).toList();
+        voucherLines = vouchers.stream()
+                .map(VoucherConverter::convertVoucherToCsv)
+                .toArray(String[]::new);
+        customerLines = customers.stream()
+                .map(customer -> customer.getCustomerId() + "," + customer.getName())
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void parseVoucher(Blackhole blackhole) {
+        for (String line : voucherLines) {
+            blackhole.consume(VoucherConverter.convertCsvToVoucher(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void formatVoucherCsv(Blackhole blackhole) {
+        for (Voucher voucher : vouchers) {
+            blackhole.consume(VoucherConverter.convertVoucherToCsv(voucher));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<String> formatVoucherList() {
+        return VoucherConverter.convertToStringList(vouchers);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void parseCustomer(Blackhole blackhole) {
+        for (String line : customerLines) {
+            blackhole.consume(CustomerConverter.convertCsvToCustomer(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<String> formatCustomerList() {
+        return CustomerConverter.convertToStringList(customers);
+    }
+
+}
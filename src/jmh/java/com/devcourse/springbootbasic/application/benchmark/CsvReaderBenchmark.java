@@ -0,0 +1,71 @@
+package com.devcourse.springbootbasic.application.benchmark;
+
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.io.CsvReader;
+import com.devcourse.springbootbasic.application.io.ReadMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CsvReaderBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int rows;
+
+    @Param({"STREAM", "MAPPED"})
+    private ReadMode readMode;
+
+    private String filepath;
+    private CsvReader csvReader;
+
+    @Setup
+    public void setUp() {
+        filepath = BenchmarkDataset.voucherFile(rows).toString();
+        csvReader = new CsvReader();
+        csvReader.setReadMode(readMode);
+    }
+
+    @TearDown
+    public void tearDown() {
+        csvReader.close();
+    }
+
+    @Benchmark
+    public List<String> readFile() {
+        return csvReader.readFile(filepath);
+    }
+
+    @Benchmark
+    public long streamFile() {
+        try (Stream<String> lines = csvReader.streamFile(filepath)) {
+            return lines.count();
+        }
+    }
+
+    @Benchmark
+    public long streamRecords() {
+        try (var vouchers = csvReader.streamRecords(filepath, VoucherCodec.PARSER)) {
+            return vouchers.count();
+        }
+    }
+
+}
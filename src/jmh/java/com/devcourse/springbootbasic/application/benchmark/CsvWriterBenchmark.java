@@ -0,0 +1,82 @@
+package com.devcourse.springbootbasic.application.benchmark;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.io.CsvWriter;
+import com.devcourse.springbootbasic.application.io.DurabilityMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvWriterBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int RING_SIZE = 1 << 14;
+
+    @Param({"NONE", "BATCH", "RECORD"})
+    private DurabilityMode durabilityMode;
+
+    private Path path;
+    private String filepath;
+    private CsvWriter csvWriter;
+    private Voucher[] vouchers;
+    private List<Voucher> batch;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        path = BenchmarkDataset.emptyFile("writer-");
+        filepath = path.toString();
+        csvWriter = new CsvWriter();
+        csvWriter.setDurabilityMode(durabilityMode);
+        vouchers = BenchmarkDataset.vouchers(RING_SIZE).toArray(Voucher[]::new);
+        batch = List.of(vouchers).subList(0, BATCH_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        csvWriter.close();
+        BenchmarkDataset.delete(path);
+    }
+
+    @Benchmark
+    public Voucher writeFile() {
+        return csvWriter.writeFile(filepath, nextVoucher());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Voucher writeFileConcurrently() {
+        return csvWriter.writeFile(filepath, nextVoucher());
+    }
+
+    @Benchmark
+    public List<Voucher> writeAll() {
+        return csvWriter.writeAll(filepath, batch);
+    }
+
+    private Voucher nextVoucher() {
+        return vouchers[cursor.getAndIncrement() & (RING_SIZE - 1)];
+    }
+
+}
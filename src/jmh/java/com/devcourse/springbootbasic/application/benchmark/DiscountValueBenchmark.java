@@ -0,0 +1,100 @@
+package com.devcourse.springbootbasic.application.benchmark;
+
+import com.devcourse.springbootbasic.application.domain.voucher.DiscountEngine;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscountValueBenchmark {
+
+    @Param({"PERCENT_DISCOUNT", "FIXED_AMOUNT"})
+    private VoucherType voucherType;
+
+    @Param({"10000"})
+    private int size;
+
+    private String[] values;
+    private long[] prices;
+    private long[] minorPrices;
+    private Voucher voucher;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new String[size];
+        prices = new long[size];
+        minorPrices = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(100) + "." + random.nextInt(10) + random.nextInt(10);
+            prices[i] = 1_000 + random.nextInt(1_000_000);
+            minorPrices[i] = prices[i] * FixedPoint.SCALE;
+        }
+        voucher = new Voucher(UUID.randomUUID(), voucherType, new DiscountValue(voucherType, "12.5"));
+    }
+
+    @Benchmark
+    public void parseDouble(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(Double.parseDouble(value));
+        }
+    }
+
+    @Benchmark
+    public void parseFixedPoint(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(FixedPoint.parse(value));
+        }
+    }
+
+    @Benchmark
+    public double discountedPriceDouble() {
+        double sum = 0;
+        for (long price : prices) {
+            sum += voucher.discountedPrice(price);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long discountedPriceFixedPoint() {
+        long sum = 0;
+        for (long price : minorPrices) {
+            sum += voucher.discountedMinorPrice(price);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] batchDiscountedPriceDouble() {
+        return DiscountEngine.discountedPrices(voucher, prices);
+    }
+
+    @Benchmark
+    public long[] batchDiscountedPriceFixedPoint() {
+        return DiscountEngine.discountedMinorPrices(voucher, minorPrices);
+    }
+
+}
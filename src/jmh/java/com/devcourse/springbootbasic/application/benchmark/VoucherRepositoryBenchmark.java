@@ -0,0 +1,83 @@
+package com.devcourse.springbootbasic.application.benchmark;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.io.CsvReader;
+import com.devcourse.springbootbasic.application.io.CsvWriter;
+import com.devcourse.springbootbasic.application.repository.voucher.FileVoucherRepository;
+import com.devcourse.springbootbasic.application.repository.voucher.MemoryVoucherRepository;
+import com.devcourse.springbootbasic.application.repository.voucher.VoucherRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class VoucherRepositoryBenchmark {
+
+    @Param({"file", "memory"})
+    private String repositoryType;
+
+    @Param({"1000", "100000", "10000000"})
+    private int rows;
+
+    private Path path;
+    private CsvWriter csvWriter;
+    private CsvReader csvReader;
+    private VoucherRepository voucherRepository;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(BenchmarkDataset.SEED + 1);
+        if (repositoryType.equals("file")) {
+            path = BenchmarkDataset.copyOf(BenchmarkDataset.voucherFile(rows), "repository-");
+            csvReader = new CsvReader();
+            csvWriter = new CsvWriter();
+            FileVoucherRepository fileVoucherRepository = new FileVoucherRepository(csvReader, csvWriter);
+            fileVoucherRepository.setFilepath(path.toString());
+            voucherRepository = fileVoucherRepository;
+            return;
+        }
+        MemoryVoucherRepository memoryVoucherRepository = new MemoryVoucherRepository();
+        BenchmarkDataset.vouchers(rows).forEach(memoryVoucherRepository::insert);
+        voucherRepository = memoryVoucherRepository;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (path != null) {
+            csvWriter.close();
+            csvReader.close();
+            BenchmarkDataset.delete(path);
+        }
+    }
+
+    @Benchmark
+    public List<Voucher> findAll() {
+        return voucherRepository.findAll();
+    }
+
+    @Benchmark
+    public Voucher insert() {
+        return voucherRepository.insert(BenchmarkDataset.voucher(random));
+    }
+
+}
@@ -1,16 +1,23 @@
 package com.devcourse.springbootbasic;
 
+import com.devcourse.springbootbasic.application.BatchApplication;
 import com.devcourse.springbootbasic.application.ConsoleApplication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class SpringbootBasicApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SpringbootBasicApplication.class, args)
-                .getBean(ConsoleApplication.class)
-                .run();
+        ConfigurableApplicationContext context = SpringApplication.run(SpringbootBasicApplication.class, args);
+        String batchScript = context.getEnvironment().getProperty("settings.batchScript", "");
+        if (batchScript.isBlank()) {
+            context.getBean(ConsoleApplication.class).run();
+        } else {
+            context.getBean(BatchApplication.class).run(batchScript);
+        }
+        context.close();
     }
 
 }
@@ -0,0 +1,233 @@
+package com.devcourse.springbootbasic.application;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.constant.OutputMessage;
+import com.devcourse.springbootbasic.application.controller.PlatformController;
+import com.devcourse.springbootbasic.application.converter.CustomerConverter;
+import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.ImportReport;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.ListMenu;
+import com.devcourse.springbootbasic.application.model.Menu;
+import com.devcourse.springbootbasic.application.model.VoucherDto;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Component
+public class BatchApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchApplication.class);
+    private static final String STANDARD_INPUT = "-";
+    private static final String COMMENT_PREFIX = "#";
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int CREATE_BATCH_SIZE = 1_000;
+
+    private final PlatformController platformController;
+    private final List<Voucher> pendingVouchers = new ArrayList<>(CREATE_BATCH_SIZE);
+    private final List<Integer> pendingLines = new ArrayList<>(CREATE_BATCH_SIZE);
+    private BufferedWriter writer;
+    private int executed;
+    private int failed;
+
+    public BatchApplication(PlatformController platformController) {
+        this.platformController = platformController;
+    }
+
+    public void run(String script) {
+        BufferedWriter output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+        try (BufferedReader input = openScript(script)) {
+            run(input, output);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public synchronized int run(Reader input, Writer output) {
+        writer = output instanceof BufferedWriter bufferedWriter ? bufferedWriter : new BufferedWriter(output, OUTPUT_BUFFER_SIZE);
+        executed = 0;
+        failed = 0;
+        try {
+            BufferedReader reader = input instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(input);
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String command = line.strip();
+                if (command.isEmpty() || command.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                if (!execute(command, lineNumber)) {
+                    break;
+                }
+            }
+            flushVouchers();
+            println(MessageFormat.format(OutputMessage.BATCH_DONE_PROMPT.getMessageText(), executed, failed));
+            writer.flush();
+            return failed;
+        } catch (IOException | UncheckedIOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private boolean execute(String command, int lineNumber) throws IOException {
+        String[] tokens = command.split("\\s+");
+        try {
+            Menu menu = Menu.getMenu(tokens[0]);
+            if (menu != Menu.CREATE) {
+                flushVouchers();
+            }
+            executed++;
+            return branchByMenu(menu, tokens, lineNumber);
+        } catch (InvalidDataException exception) {
+            fail(lineNumber, exception);
+            return true;
+        }
+    }
+
+    private boolean branchByMenu(Menu menu, String[] tokens, int lineNumber) throws IOException {
+        switch (menu) {
+            case EXIT -> {
+                requireArguments(tokens, 0);
+                return false;
+            }
+            case CREATE -> {
+                requireArguments(tokens, 2);
+                pendingVouchers.add(VoucherConverter.convertDtoToVoucher(voucherDto(tokens[1], tokens[2]), UUID.randomUUID()));
+                pendingLines.add(lineNumber);
+                if (pendingVouchers.size() == CREATE_BATCH_SIZE) {
+                    flushVouchers();
+                }
+            }
+            case LIST -> {
+                requireArguments(tokens, 1);
+                printList(ListMenu.getListMenu(tokens[1]));
+            }
+            case FIND -> {
+                requireArguments(tokens, 1);
+                println(platformController.getVoucher(voucherId(tokens[1])).toString());
+            }
+            case GENERATE -> {
+                requireArguments(tokens, 3);
+                int count = platformController.generateVouchers(voucherDto(tokens[1], tokens[2]), voucherCount(tokens[3]));
+                println(MessageFormat.format(OutputMessage.GENERATION_DONE_PROMPT.getMessageText(), count));
+            }
+            case IMPORT -> {
+                requireArguments(tokens, 1);
+                ImportReport report = platformController.importVouchers(filePath(tokens[1]));
+                println(MessageFormat.format(OutputMessage.IMPORT_DONE_PROMPT.getMessageText(),
+                        report.importedRows(), report.rejectedRows(), report.rowsPerSecond()));
+            }
+        }
+        return true;
+    }
+
+    private void flushVouchers() throws IOException {
+        if (pendingVouchers.isEmpty()) {
+            return;
+        }
+        try {
+            for (Voucher voucher : platformController.createVouchers(List.copyOf(pendingVouchers))) {
+                println(voucher.toString());
+            }
+        } catch (InvalidDataException exception) {
+            for (int lineNumber : pendingLines) {
+                fail(lineNumber, exception);
+            }
+        } finally {
+            pendingVouchers.clear();
+            pendingLines.clear();
+        }
+    }
+
+    private void printList(ListMenu listMenu) throws IOException {
+        println(listMenu.getListMenuPrompt());
+        try (Stream<String> stream = switch (listMenu) {
+            case VOUCHER_LIST -> VoucherConverter.convertToStringStream(platformController.streamVouchers());
+            case BLACK_CUSTOMER_LIST -> CustomerConverter.convertToStringStream(platformController.streamBlackCustomers());
+        }) {
+            stream.forEachOrdered(line -> {
+                try {
+                    println(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void fail(int lineNumber, InvalidDataException exception) throws IOException {
+        failed++;
+        logger.error(exception.getMessage(), exception.getCause());
+        println(MessageFormat.format(OutputMessage.BATCH_ERROR_PROMPT.getMessageText(), lineNumber, exception.getMessage()));
+    }
+
+    private void println(String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+    }
+
+    private static void requireArguments(String[] tokens, int count) {
+        if (tokens.length != count + 1) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BATCH_COMMAND);
+        }
+    }
+
+    private static VoucherDto voucherDto(String voucherType, String discountValue) {
+        VoucherType type = VoucherType.getVoucherType(voucherType);
+        return new VoucherDto(type, new DiscountValue(type, discountValue));
+    }
+
+    private static UUID voucherId(String voucherId) {
+        try {
+            return UUID.fromString(voucherId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_ID, e);
+        }
+    }
+
+    private static int voucherCount(String count) {
+        try {
+            return Integer.parseInt(count);
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_COUNT, e);
+        }
+    }
+
+    private static Path filePath(String filePath) {
+        try {
+            return Path.of(filePath);
+        } catch (InvalidPathException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private static BufferedReader openScript(String script) throws IOException {
+        if (STANDARD_INPUT.equals(script)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Path.of(script), StandardCharsets.UTF_8);
+    }
+
+}
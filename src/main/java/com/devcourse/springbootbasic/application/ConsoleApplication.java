@@ -6,18 +6,24 @@ import com.devcourse.springbootbasic.application.converter.VoucherConverter;
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
 import com.devcourse.springbootbasic.application.model.ListMenu;
 import com.devcourse.springbootbasic.application.model.Menu;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
 import com.devcourse.springbootbasic.application.exception.InvalidDataException;
 import com.devcourse.springbootbasic.application.io.ConsoleManager;
+import com.devcourse.springbootbasic.application.io.ImportReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
+@Lazy
 @Component
 public class ConsoleApplication implements Runnable {
 
     private static final Logger logger = LoggerFactory.getLogger(PlatformController.class);
+    private static final int LIST_PAGE_SIZE = 20;
 
     private final ConsoleManager consoleManager;
     private final PlatformController platformController;
@@ -58,15 +64,40 @@ public class ConsoleApplication implements Runnable {
                 var listMenu = consoleManager.consoleListMenu();
                 branchByListMenu(listMenu);
             }
+            case FIND -> {
+                Voucher voucher = platformController.getVoucher(consoleManager.consoleVoucherId());
+                consoleManager.printVoucher(voucher.toString());
+            }
+            case GENERATE -> {
+                int count = platformController.generateVouchers(
+                        consoleManager.getVoucherDto(), consoleManager.consoleVoucherCount()
+                );
+                consoleManager.printGenerationDone(count);
+            }
+            case IMPORT -> {
+                ImportReport report = platformController.importVouchers(consoleManager.consoleFilePath());
+                consoleManager.printImportReport(report);
+            }
         }
         return false;
     }
 
     private void branchByListMenu(ListMenu listMenu) {
-        var list = switch (listMenu) {
-            case VOUCHER_LIST -> VoucherConverter.convertToStringList(platformController.getVouchers());
-            case BLACK_CUSTOMER_LIST -> CustomerConverter.convertToStringList(platformController.getBlackCustomers());
-        };
-        consoleManager.printList(listMenu, list);
+        if (listMenu == ListMenu.VOUCHER_LIST) {
+            printVoucherPages();
+            return;
+        }
+        try (Stream<String> stream = CustomerConverter.convertToStringStream(platformController.streamBlackCustomers())) {
+            consoleManager.printList(listMenu, stream);
+        }
+    }
+
+    private void printVoucherPages() {
+        VoucherPage page = platformController.getVoucherPage(null, LIST_PAGE_SIZE);
+        consoleManager.printList(ListMenu.VOUCHER_LIST, VoucherConverter.convertToStringList(page.vouchers()));
+        while (page.hasNext() && consoleManager.consoleNextPage()) {
+            page = platformController.getVoucherPage(page.nextCursor(), LIST_PAGE_SIZE);
+            consoleManager.printPage(VoucherConverter.convertToStringList(page.vouchers()));
+        }
     }
 }
@@ -0,0 +1,319 @@
+package com.devcourse.springbootbasic.application.api;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.controller.PlatformController;
+import com.devcourse.springbootbasic.application.converter.JsonCodec;
+import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherDto;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+@Component
+public class HttpApiServer implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpApiServer.class);
+    private static final String VOUCHERS_PATH = "/vouchers";
+    private static final String BLACKLIST_PATH = "/customers/blacklist";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1_000;
+    private static final int BACKLOG = 1_024;
+    private static final int RESPONSE_BUFFER_SIZE = 16 * 1024;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final PlatformController platformController;
+    private final OperationMetrics metrics = new OperationMetrics("http.requests", "api");
+    @Value("${settings.httpPort:-1}")
+    private int port = -1;
+    @Value("${settings.httpWorkerThreads:64}")
+    private int workerThreads = 64;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public HttpApiServer(PlatformController platformController) {
+        this.platformController = platformController;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (port >= 0) {
+            start(port);
+        }
+    }
+
+    public synchronized InetSocketAddress start(int port) {
+        if (server != null) {
+            return server.getAddress();
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.SERVER_BIND_FAILED, e);
+        }
+        executor = ServerExecutors.newRequestExecutor("http-api", workerThreads);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("http api listening on {}", server.getAddress());
+        return server.getAddress();
+    }
+
+    @PreDestroy
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        executor = null;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String route = method + " " + route(path);
+        long start = System.nanoTime();
+        try {
+            dispatch(exchange, method, path);
+        } catch (InvalidDataException e) {
+            sendError(exchange, statusOf(e), e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.error("{} {} failed", method, path, e);
+            sendError(exchange, 500, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        } finally {
+            metrics.timer(route).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        exchange.close();
+    }
+
+    private void dispatch(HttpExchange exchange, String method, String path) throws IOException {
+        if (path.equals(VOUCHERS_PATH) && method.equals("POST")) {
+            createVoucher(exchange);
+        } else if (path.equals(VOUCHERS_PATH) && method.equals("GET")) {
+            Page page = Page.of(exchange.getRequestURI().getRawQuery());
+            if (page.keyset()) {
+                sendVoucherPage(exchange, page, platformController.getVoucherPage(page.after(), page.size()));
+            } else {
+                sendPage(exchange, page, platformController.streamVouchers(), JsonCodec::encode);
+            }
+        } else if (path.startsWith(VOUCHERS_PATH + "/") && method.equals("GET")) {
+            Voucher voucher = platformController.getVoucher(voucherId(path.substring(VOUCHERS_PATH.length() + 1)));
+            send(exchange, 200, JsonCodec.encode(voucher, new StringBuilder()).toString());
+        } else if (path.startsWith(VOUCHERS_PATH + "/") && method.equals("PUT")) {
+            updateVoucher(exchange, voucherId(path.substring(VOUCHERS_PATH.length() + 1)));
+        } else if (path.startsWith(VOUCHERS_PATH + "/") && method.equals("DELETE")) {
+            platformController.deleteVoucher(voucherId(path.substring(VOUCHERS_PATH.length() + 1)));
+            exchange.sendResponseHeaders(204, -1);
+        } else if (path.equals(BLACKLIST_PATH) && method.equals("GET")) {
+            Page page = Page.of(exchange.getRequestURI().getRawQuery());
+            sendPage(exchange, page, platformController.streamBlackCustomers(), JsonCodec::encode);
+        } else {
+            sendError(exchange, 404, ErrorMessage.INVALID_REQUEST_PATH.getMessageText());
+        }
+    }
+
+    private void createVoucher(HttpExchange exchange) throws IOException {
+        Voucher voucher = platformController.createVoucher(VoucherConverter.convertDtoToVoucher(
+                readVoucherDto(exchange), UUID.randomUUID()
+        ));
+        send(exchange, 201, JsonCodec.encode(voucher, new StringBuilder()).toString());
+    }
+
+    private void updateVoucher(HttpExchange exchange, UUID voucherId) throws IOException {
+        Voucher voucher = platformController.updateVoucher(VoucherConverter.convertDtoToVoucher(
+                readVoucherDto(exchange), voucherId
+        ));
+        send(exchange, 200, JsonCodec.encode(voucher, new StringBuilder()).toString());
+    }
+
+    private static VoucherDto readVoucherDto(HttpExchange exchange) throws IOException {
+        Map<String, String> body = JsonCodec.decodeObject(readBody(exchange));
+        String voucherType = body.get("voucherType");
+        String discountValue = body.get("discountValue");
+        if (voucherType == null || discountValue == null) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_INFO);
+        }
+        VoucherType type = VoucherType.getVoucherType(voucherType);
+        return new VoucherDto(type, new DiscountValue(type, discountValue));
+    }
+
+    private <T> void sendPage(HttpExchange exchange, Page page, Stream<T> stream,
+                              BiFunction<T, StringBuilder, StringBuilder> encoder) throws IOException {
+        try (stream) {
+            Iterator<T> items = stream.skip(page.offset())
+                    .limit(page.size() + 1L)
+                    .iterator();
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), RESPONSE_BUFFER_SIZE);
+            StringBuilder builder = new StringBuilder(128)
+                    .append("{\"page\":").append(page.number())
+                    .append(",\"size\":").append(page.size())
+                    .append(",\"items\":[");
+            int written = 0;
+            while (written < page.size() && items.hasNext()) {
+                if (written++ > 0) {
+                    builder.append(',');
+                }
+                encoder.apply(items.next(), builder);
+                writer.append(builder);
+                builder.setLength(0);
+            }
+            writer.append(builder.append("],\"hasNext\":").append(items.hasNext()).append('}'));
+            writer.close();
+        }
+    }
+
+    private static void sendVoucherPage(HttpExchange exchange, Page page, VoucherPage voucherPage) throws IOException {
+        StringBuilder builder = new StringBuilder(128 + voucherPage.vouchers().size() * 96)
+                .append("{\"size\":").append(page.size())
+                .append(",\"items\":[");
+        for (int i = 0; i < voucherPage.vouchers().size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            JsonCodec.encode(voucherPage.vouchers().get(i), builder);
+        }
+        builder.append("],\"hasNext\":").append(voucherPage.hasNext())
+                .append(",\"nextCursor\":");
+        if (voucherPage.hasNext()) {
+            builder.append('"').append(voucherPage.nextCursor()).append('"');
+        } else {
+            builder.append("null");
+        }
+        send(exchange, 200, builder.append('}').toString());
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            logger.warn("response aborted after status {}: {}", exchange.getResponseCode(), message);
+            throw new IOException(ErrorMessage.RESPONSE_ABORTED.getMessageText());
+        }
+        try {
+            send(exchange, status, JsonCodec.encodeError(message));
+        } catch (IOException e) {
+            logger.warn("error response failed", e);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static int statusOf(InvalidDataException e) {
+        return e.getErrorMessage().filter(ErrorMessage.VOUCHER_NOT_FOUND::equals).isPresent() ? 404 : 400;
+    }
+
+    private static UUID voucherId(String voucherId) {
+        try {
+            return UUID.fromString(voucherId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_ID, e);
+        }
+    }
+
+    private static String route(String path) {
+        if (path.startsWith(VOUCHERS_PATH + "/")) {
+            return VOUCHERS_PATH + "/{id}";
+        }
+        return path.equals(VOUCHERS_PATH) || path.equals(BLACKLIST_PATH) ? path : "unknown";
+    }
+
+    private record Page(int number, int size, boolean keyset, UUID after) {
+
+        private static Page of(String query) {
+            int number = 0;
+            int size = DEFAULT_PAGE_SIZE;
+            boolean keyset = false;
+            UUID after = null;
+            if (query != null) {
+                for (String parameter : query.split("&")) {
+                    int separator = parameter.indexOf('=');
+                    String name = separator < 0 ? parameter : parameter.substring(0, separator);
+                    String value = separator < 0 ? "" : parameter.substring(separator + 1);
+                    switch (name) {
+                        case "page" -> number = parse(value);
+                        case "size" -> size = parse(value);
+                        case "after" -> {
+                            keyset = true;
+                            after = value.isEmpty() ? null : voucherId(value);
+                        }
+                        default -> {}
+                    }
+                }
+            }
+            if (number < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+                throw new InvalidDataException(ErrorMessage.INVALID_PAGE);
+            }
+            return new Page(number, size, keyset, after);
+        }
+
+        private static int parse(String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new InvalidDataException(ErrorMessage.INVALID_PAGE, e);
+            }
+        }
+
+        private long offset() {
+            return (long) number * size;
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.devcourse.springbootbasic.application.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ServerExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerExecutors.class);
+
+    private ServerExecutors() {}
+
+    public static ExecutorService newRequestExecutor(String name, int platformThreads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = (ExecutorService) factory.invoke(null);
+            logger.info("{} requests run on virtual threads", name);
+            return executor;
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            logger.info("{} requests run on {} platform threads", name, platformThreads);
+            return Executors.newFixedThreadPool(platformThreads, threadFactory(name));
+        }
+    }
+
+    public static ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
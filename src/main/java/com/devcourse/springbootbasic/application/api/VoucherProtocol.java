@@ -0,0 +1,32 @@
+package com.devcourse.springbootbasic.application.api;
+
+public final class VoucherProtocol {
+
+    public static final int LENGTH_SIZE = Integer.BYTES;
+    public static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    public static final int MAX_FRAME_SIZE = 1 << 20;
+    public static final int MAX_PAGE_SIZE = 1_000;
+
+    public static final byte CREATE = 1;
+    public static final byte GET = 2;
+    public static final byte LIST_PAGE = 3;
+    public static final byte BLACKLIST_CHECK = 4;
+
+    public static final byte OK = 0;
+    public static final byte BAD_REQUEST = 1;
+    public static final byte NOT_FOUND = 2;
+    public static final byte SERVER_ERROR = 3;
+
+    private VoucherProtocol() {}
+
+    public static String operationName(byte opcode) {
+        return switch (opcode) {
+            case CREATE -> "create";
+            case GET -> "get";
+            case LIST_PAGE -> "listPage";
+            case BLACKLIST_CHECK -> "blacklistCheck";
+            default -> "unknown";
+        };
+    }
+
+}
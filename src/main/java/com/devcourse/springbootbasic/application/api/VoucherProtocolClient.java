@@ -0,0 +1,201 @@
+package com.devcourse.springbootbasic.application.api;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.BinaryVoucherFile;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class VoucherProtocolClient implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BLACKLIST_REQUEST_SIZE = VoucherProtocol.LENGTH_SIZE + VoucherProtocol.HEADER_SIZE + Integer.BYTES;
+    private static final int PIPELINE_WINDOW = BUFFER_SIZE / BLACKLIST_REQUEST_SIZE;
+
+    private final SocketChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+    private int nextRequestId;
+
+    public VoucherProtocolClient(InetSocketAddress address) {
+        try {
+            channel = SocketChannel.open(address);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public synchronized Voucher create(VoucherType voucherType, long scaledDiscountValue) {
+        int requestId = begin(VoucherProtocol.CREATE);
+        writeBuffer.put((byte) voucherType.ordinal()).putLong(scaledDiscountValue);
+        end();
+        flush();
+        return BinaryVoucherFile.decode(readResponse(requestId));
+    }
+
+    public synchronized Voucher get(UUID voucherId) {
+        int requestId = begin(VoucherProtocol.GET);
+        writeBuffer.putLong(voucherId.getMostSignificantBits()).putLong(voucherId.getLeastSignificantBits());
+        end();
+        flush();
+        return BinaryVoucherFile.decode(readResponse(requestId));
+    }
+
+    public synchronized Page listPage(int page, int size) {
+        int requestId = begin(VoucherProtocol.LIST_PAGE);
+        writeBuffer.putInt(page).putInt(size);
+        end();
+        flush();
+        ByteBuffer response = readResponse(requestId);
+        int count = response.getInt();
+        boolean hasNext = response.get() == 1;
+        List<Voucher> vouchers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vouchers.add(BinaryVoucherFile.decode(response));
+        }
+        return new Page(vouchers, hasNext);
+    }
+
+    public boolean isBlacklisted(int customerId) {
+        return areBlacklisted(new int[]{customerId})[0];
+    }
+
+    public synchronized boolean[] areBlacklisted(int[] customerIds) {
+        boolean[] result = new boolean[customerIds.length];
+        for (int from = 0; from < customerIds.length; from += PIPELINE_WINDOW) {
+            int to = Math.min(customerIds.length, from + PIPELINE_WINDOW);
+            int firstRequestId = nextRequestId;
+            for (int i = from; i < to; i++) {
+                begin(VoucherProtocol.BLACKLIST_CHECK);
+                writeBuffer.putInt(customerIds[i]);
+                end();
+            }
+            flush();
+            InvalidDataException failure = null;
+            for (int i = from; i < to; i++) {
+                ByteBuffer frame = readFrame(firstRequestId + i - from);
+                try {
+                    result[i] = checkStatus(frame).get() == 1;
+                } catch (InvalidDataException e) {
+                    failure = failure == null ? e : failure;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private int begin(byte opcode) {
+        int requestId = nextRequestId++;
+        writeBuffer.mark();
+        writeBuffer.putInt(0).put(opcode).putInt(requestId);
+        return requestId;
+    }
+
+    private void end() {
+        int end = writeBuffer.position();
+        writeBuffer.reset();
+        int start = writeBuffer.position();
+        writeBuffer.putInt(start, end - start - VoucherProtocol.LENGTH_SIZE).position(end);
+    }
+
+    private void flush() {
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private ByteBuffer readResponse(int requestId) {
+        return checkStatus(readFrame(requestId));
+    }
+
+    private ByteBuffer readFrame(int requestId) {
+        try {
+            fill(VoucherProtocol.LENGTH_SIZE);
+            int length = readBuffer.getInt();
+            if (length < VoucherProtocol.HEADER_SIZE || length > VoucherProtocol.MAX_FRAME_SIZE) {
+                throw new InvalidDataException(ErrorMessage.INVALID_PROTOCOL_FRAME);
+            }
+            fill(length);
+            ByteBuffer frame = readBuffer.slice(readBuffer.position(), length);
+            readBuffer.position(readBuffer.position() + length);
+            if (frame.getInt(Byte.BYTES) != requestId) {
+                throw new InvalidDataException(ErrorMessage.INVALID_PROTOCOL_FRAME);
+            }
+            return frame.position(VoucherProtocol.HEADER_SIZE);
+        } catch (InvalidDataException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    private static ByteBuffer checkStatus(ByteBuffer frame) {
+        if (frame.get(0) != VoucherProtocol.OK) {
+            throw new InvalidDataException(StandardCharsets.UTF_8.decode(frame).toString());
+        }
+        return frame;
+    }
+
+    private void abort() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void fill(int bytes) {
+        if (readBuffer.remaining() >= bytes) {
+            return;
+        }
+        readBuffer.compact();
+        if (readBuffer.capacity() < bytes) {
+            readBuffer = ByteBuffer.allocate(bytes).put(readBuffer.flip());
+        }
+        try {
+            while (readBuffer.position() < bytes) {
+                if (channel.read(readBuffer) < 0) {
+                    throw new EOFException();
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        } finally {
+            readBuffer.flip();
+        }
+    }
+
+    public record Page(List<Voucher> vouchers, boolean hasNext) {
+    }
+
+}
@@ -0,0 +1,474 @@
+package com.devcourse.springbootbasic.application.api;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.BinaryVoucherFile;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.devcourse.springbootbasic.application.service.CustomerService;
+import com.devcourse.springbootbasic.application.service.VoucherService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Component
+public class VoucherProtocolServer implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoucherProtocolServer.class);
+    private static final int INITIAL_READ_BUFFER_SIZE = 16 * 1024;
+    private static final int INITIAL_RESPONSE_BUFFER_SIZE = 4 * 1024;
+    private static final long MAX_PENDING_BYTES = 4L * 1024 * 1024;
+    private static final int STOP_TIMEOUT_SECONDS = 1;
+    private static final VoucherType[] VOUCHER_TYPES = VoucherType.values();
+
+    private final VoucherService voucherService;
+    private final CustomerService customerService;
+    private final OperationMetrics metrics = new OperationMetrics("protocol.requests", "nio");
+    private final Queue<Connection> writeReady = new ConcurrentLinkedQueue<>();
+    @Value("${settings.protocolPort:-1}")
+    private int port = -1;
+    @Value("${settings.protocolWorkerThreads:16}")
+    private int workerThreads = 16;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private ExecutorService workers;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    public VoucherProtocolServer(VoucherService voucherService, CustomerService customerService) {
+        this.voucherService = voucherService;
+        this.customerService = customerService;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (port >= 0) {
+            start(port);
+        }
+    }
+
+    public synchronized InetSocketAddress start(int port) {
+        if (running) {
+            return localAddress();
+        }
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        workers = ServerExecutors.newRequestExecutor("voucher-protocol", workerThreads);
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "voucher-protocol-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        logger.info("voucher protocol listening on {}", localAddress());
+        return localAddress();
+    }
+
+    @PreDestroy
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+        selector.keys().forEach(key -> closeQuietly(key.channel()));
+        closeQuietly(selector);
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    private InetSocketAddress localAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Connection ready;
+                while ((ready = writeReady.poll()) != null) {
+                    ready.onResponsesReady();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) {
+                logger.error("voucher protocol selector stopped", e);
+            }
+        }
+    }
+
+    private void handleKey(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.write();
+            }
+        } catch (IOException | InvalidDataException e) {
+            logger.debug("voucher protocol connection closed", e);
+            connection.close();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    private void handle(ByteBuffer frame, ResponseBuffer responses) {
+        byte opcode = frame.get();
+        int requestId = frame.getInt();
+        long start = System.nanoTime();
+        int mark = responses.position();
+        try {
+            switch (opcode) {
+                case VoucherProtocol.CREATE -> {
+                    VoucherType voucherType = voucherType(frame.get());
+                    DiscountValue discountValue = DiscountValue.ofScaled(voucherType, frame.getLong());
+                    requireEnd(frame);
+                    Voucher voucher = voucherService.createVoucher(new Voucher(UUID.randomUUID(), voucherType, discountValue));
+                    responses.begin(VoucherProtocol.OK, requestId).putVoucher(voucher).end();
+                }
+                case VoucherProtocol.GET -> {
+                    UUID voucherId = new UUID(frame.getLong(), frame.getLong());
+                    requireEnd(frame);
+                    responses.begin(VoucherProtocol.OK, requestId).putVoucher(voucherService.getVoucher(voucherId)).end();
+                }
+                case VoucherProtocol.LIST_PAGE -> {
+                    int page = frame.getInt();
+                    int size = frame.getInt();
+                    requireEnd(frame);
+                    listPage(requestId, page, size, responses);
+                }
+                case VoucherProtocol.BLACKLIST_CHECK -> {
+                    int customerId = frame.getInt();
+                    requireEnd(frame);
+                    boolean blacklisted = customerService.isBlacklisted(customerId);
+                    responses.begin(VoucherProtocol.OK, requestId).put((byte) (blacklisted ? 1 : 0)).end();
+                }
+                default -> throw new InvalidDataException(ErrorMessage.INVALID_PROTOCOL_FRAME);
+            }
+        } catch (BufferUnderflowException e) {
+            responses.reset(mark).error(VoucherProtocol.BAD_REQUEST, requestId, ErrorMessage.INVALID_PROTOCOL_FRAME.getMessageText());
+        } catch (InvalidDataException e) {
+            responses.reset(mark).error(statusOf(e), requestId, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("voucher protocol request {} failed", requestId, e);
+            responses.reset(mark).error(VoucherProtocol.SERVER_ERROR, requestId, String.valueOf(e.getMessage()));
+        } finally {
+            metrics.timer(VoucherProtocol.operationName(opcode)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void listPage(int requestId, int page, int size, ResponseBuffer responses) {
+        if (page < 0 || size <= 0 || size > VoucherProtocol.MAX_PAGE_SIZE) {
+            throw new InvalidDataException(ErrorMessage.INVALID_PAGE);
+        }
+        try (Stream<Voucher> vouchers = voucherService.streamVouchers()) {
+            Iterator<Voucher> items = vouchers.skip((long) page * size)
+                    .limit(size + 1L)
+                    .iterator();
+            responses.begin(VoucherProtocol.OK, requestId);
+            int countPosition = responses.position();
+            responses.putInt(0).put((byte) 0);
+            int count = 0;
+            while (count < size && items.hasNext()) {
+                responses.putVoucher(items.next());
+                count++;
+            }
+            responses.patchInt(countPosition, count)
+                    .patch(countPosition + Integer.BYTES, (byte) (items.hasNext() ? 1 : 0))
+                    .end();
+        }
+    }
+
+    private static VoucherType voucherType(byte ordinal) {
+        if (ordinal < 0 || ordinal >= VOUCHER_TYPES.length) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_TYPE);
+        }
+        return VOUCHER_TYPES[ordinal];
+    }
+
+    private static void requireEnd(ByteBuffer frame) {
+        if (frame.hasRemaining()) {
+            throw new InvalidDataException(ErrorMessage.INVALID_PROTOCOL_FRAME);
+        }
+    }
+
+    private static byte statusOf(InvalidDataException e) {
+        return e.getErrorMessage().filter(ErrorMessage.VOUCHER_NOT_FOUND::equals).isPresent()
+                ? VoucherProtocol.NOT_FOUND
+                : VoucherProtocol.BAD_REQUEST;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            logger.debug("close failed", e);
+        }
+    }
+
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final Queue<List<ByteBuffer>> inbox = new ConcurrentLinkedQueue<>();
+        private final Queue<ByteBuffer> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong pendingBytes = new AtomicLong();
+        private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+
+        private Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        private void read() throws IOException {
+            if (channel.read(readBuffer) < 0) {
+                close();
+                return;
+            }
+            List<ByteBuffer> frames = extractFrames();
+            if (frames.isEmpty()) {
+                return;
+            }
+            frames.forEach(frame -> pendingBytes.addAndGet(frame.remaining()));
+            inbox.add(frames);
+            schedule();
+            if (pendingBytes.get() > MAX_PENDING_BYTES) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            }
+        }
+
+        private List<ByteBuffer> extractFrames() {
+            List<ByteBuffer> frames = new ArrayList<>();
+            readBuffer.flip();
+            while (readBuffer.remaining() >= VoucherProtocol.LENGTH_SIZE) {
+                int length = readBuffer.getInt(readBuffer.position());
+                if (length < VoucherProtocol.HEADER_SIZE || length > VoucherProtocol.MAX_FRAME_SIZE) {
+                    throw new InvalidDataException(ErrorMessage.INVALID_PROTOCOL_FRAME);
+                }
+                if (readBuffer.remaining() < VoucherProtocol.LENGTH_SIZE + length) {
+                    break;
+                }
+                int start = readBuffer.position() + VoucherProtocol.LENGTH_SIZE;
+                ByteBuffer frame = ByteBuffer.allocate(length);
+                frame.put(0, readBuffer, start, length);
+                frames.add(frame);
+                readBuffer.position(start + length);
+            }
+            readBuffer.compact();
+            if (!readBuffer.hasRemaining()) {
+                readBuffer = ByteBuffer.allocate(readBuffer.capacity() * 2).put(readBuffer.flip());
+            }
+            return frames;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this::process);
+            }
+        }
+
+        private void process() {
+            do {
+                List<ByteBuffer> frames;
+                while ((frames = inbox.poll()) != null) {
+                    ResponseBuffer responses = new ResponseBuffer();
+                    for (ByteBuffer frame : frames) {
+                        pendingBytes.addAndGet(-frame.remaining());
+                        handle(frame, responses);
+                    }
+                    ByteBuffer response = responses.flip();
+                    pendingBytes.addAndGet(response.remaining());
+                    outbox.add(response);
+                }
+                scheduled.set(false);
+            } while (!inbox.isEmpty() && scheduled.compareAndSet(false, true));
+            writeReady.add(this);
+            selector.wakeup();
+        }
+
+        private void onResponsesReady() {
+            if (!key.isValid()) {
+                return;
+            }
+            try {
+                write();
+            } catch (IOException e) {
+                logger.debug("voucher protocol connection closed", e);
+                close();
+            }
+        }
+
+        private void write() throws IOException {
+            ByteBuffer head;
+            while ((head = outbox.peek()) != null) {
+                int written = channel.write(head);
+                pendingBytes.addAndGet(-written);
+                if (head.hasRemaining()) {
+                    break;
+                }
+                outbox.poll();
+            }
+            if (!key.isValid()) {
+                return;
+            }
+            int interestOps = outbox.isEmpty() ? 0 : SelectionKey.OP_WRITE;
+            if (pendingBytes.get() <= MAX_PENDING_BYTES) {
+                interestOps |= SelectionKey.OP_READ;
+            }
+            key.interestOps(interestOps);
+        }
+
+        private void close() {
+            key.cancel();
+            closeQuietly(channel);
+        }
+    }
+
+    private static final class ResponseBuffer {
+
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_RESPONSE_BUFFER_SIZE);
+        private int frameStart;
+
+        private ResponseBuffer begin(byte status, int requestId) {
+            frameStart = buffer.position();
+            return putInt(0).put(status).putInt(requestId);
+        }
+
+        private void end() {
+            buffer.putInt(frameStart, buffer.position() - frameStart - VoucherProtocol.LENGTH_SIZE);
+        }
+
+        private void error(byte status, int requestId, String message) {
+            byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+            begin(status, requestId);
+            ensure(bytes.length);
+            buffer.put(bytes);
+            end();
+        }
+
+        private ResponseBuffer putVoucher(Voucher voucher) {
+            ensure(BinaryVoucherFile.RECORD_SIZE);
+            BinaryVoucherFile.encode(voucher, buffer);
+            return this;
+        }
+
+        private ResponseBuffer putInt(int value) {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+            return this;
+        }
+
+        private ResponseBuffer put(byte value) {
+            ensure(Byte.BYTES);
+            buffer.put(value);
+            return this;
+        }
+
+        private ResponseBuffer patchInt(int position, int value) {
+            buffer.putInt(position, value);
+            return this;
+        }
+
+        private ResponseBuffer patch(int position, byte value) {
+            buffer.put(position, value);
+            return this;
+        }
+
+        private int position() {
+            return buffer.position();
+        }
+
+        private ResponseBuffer reset(int position) {
+            buffer.position(position);
+            return this;
+        }
+
+        private ByteBuffer flip() {
+            return buffer.flip();
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+            }
+        }
+    }
+
+}
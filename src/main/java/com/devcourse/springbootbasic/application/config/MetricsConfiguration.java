@@ -0,0 +1,34 @@
+package com.devcourse.springbootbasic.application.config;
+
+import com.devcourse.springbootbasic.application.metrics.MetricsReporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public MeterRegistry meterRegistry() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        return meterRegistry;
+    }
+
+    @Bean(destroyMethod = "close")
+    public MetricsReporter metricsReporter(
+            MeterRegistry meterRegistry,
+            @Value("${settings.metricsReportInterval:60}") long reportInterval,
+            @Value("${settings.metricsDumpPath:}") String dumpPath
+    ) {
+        MetricsReporter metricsReporter = new MetricsReporter(meterRegistry, dumpPath.isBlank() ? null : Path.of(dumpPath));
+        metricsReporter.start(reportInterval);
+        return metricsReporter;
+    }
+
+}
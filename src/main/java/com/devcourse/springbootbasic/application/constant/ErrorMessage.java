@@ -6,8 +6,24 @@ public enum ErrorMessage {
     INVALID_VOUCHER_TYPE("올바른 바우처 메뉴를 선택해주세요."),
     INVALID_LIST_MENU("올바른 목록 메뉴를 선택해주세요."),
     INVALID_VOUCHER_INFO("올바른 바우처 정보를 입력해주세요."),
+    INVALID_VOUCHER_ID("올바른 바우처 아이디를 입력해주세요."),
+    INVALID_VOUCHER_COUNT("1 이상의 바우처 개수를 입력해주세요."),
+    INVALID_BATCH_COMMAND("올바르지 않은 배치 명령입니다."),
+    INVALID_REQUEST_BODY("올바르지 않은 요청 본문입니다."),
+    INVALID_PAGE("올바른 페이지 정보를 입력해주세요."),
+    INVALID_REQUEST_PATH("지원하지 않는 요청입니다."),
+    INVALID_PROTOCOL_FRAME("올바르지 않은 요청 프레임입니다."),
+    VOUCHER_NOT_FOUND("바우처를 찾을 수 없습니다."),
+    INVALID_CUSTOMER_INFO("올바르지 않은 고객 정보입니다."),
+    INVALID_BINARY_FORMAT("올바르지 않은 바이너리 파일 형식입니다."),
+    CORRUPTED_RECORD("체크섬이 일치하지 않는 손상된 레코드입니다."),
     INAVLID_VOUCHER_INSERTION("바우처 생성에 실패했습니다."),
     INVALID_DISCOUNT_VALUE("부적절한 값입니다."),
+    INVALID_SHARD_COUNT("샤드 개수는 1 이상이어야 합니다."),
+    SHARD_LAYOUT_MISMATCH("저장된 샤드 구성이 설정과 다릅니다. 리샤딩 도구로 변환해주세요."),
+    STORE_CAPACITY_EXCEEDED("저장소 용량을 초과했습니다."),
+    SERVER_BIND_FAILED("서버 포트를 열 수 없습니다."),
+    RESPONSE_ABORTED("응답 전송 중 오류가 발생해 연결을 끊었습니다."),
     INVALID_FILE_ACCESS("부적절한 파일 접근입니다.");
 
     private final String messageText;
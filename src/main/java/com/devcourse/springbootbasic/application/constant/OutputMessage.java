@@ -5,9 +5,14 @@ public enum OutputMessage {
     START_GAME_PROMPT("=== Voucher Program ==="),
     END_GAME_PROMPT("프로그램을 종료합니다."),
     CREATION_DONE_PROMPT("바우처가 생성되었습니다."),
+    BATCH_DONE_PROMPT("{0}개의 명령을 실행했습니다. (실패 {1}건)"),
+    BATCH_ERROR_PROMPT("[{0}번째 줄] {1}"),
+    GENERATION_DONE_PROMPT("{0}개의 바우처가 생성되었습니다."),
+    IMPORT_DONE_PROMPT("{0}개의 바우처를 가져왔습니다. (실패 {1}건, 초당 {2}건)"),
     VOUCHER_TYPE_PROMPT("--- 바우처 옵션 선택 ---"),
     LIST_MENU_PROMPT("--- 출력 옵션 선택 ---"),
     LIST_VOUCHERS_PROMPT("- 생성한 바우처 목록입니다. -"),
+    FOUND_VOUCHER_PROMPT("- 조회한 바우처입니다. -"),
     BLACK_CUSTOMER_PROMPT("진상 목록입니다.");
 
     private final String messageText;
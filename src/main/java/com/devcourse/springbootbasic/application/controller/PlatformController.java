@@ -2,11 +2,18 @@ package com.devcourse.springbootbasic.application.controller;
 
 import com.devcourse.springbootbasic.application.domain.customer.Customer;
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.io.ImportReport;
+import com.devcourse.springbootbasic.application.model.VoucherDto;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
 import com.devcourse.springbootbasic.application.service.CustomerService;
 import com.devcourse.springbootbasic.application.service.VoucherService;
 import org.springframework.stereotype.Controller;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Controller
 public class PlatformController {
@@ -20,15 +27,63 @@ public class PlatformController {
         this.customerService = customerService;
     }
 
-    public void createVoucher(Voucher voucher) {
-        voucherService.createVoucher(voucher);
+    public Voucher createVoucher(Voucher voucher) {
+        return voucherService.createVoucher(voucher);
+    }
+
+    public List<Voucher> createVouchers(List<Voucher> vouchers) {
+        return voucherService.createVouchers(vouchers);
+    }
+
+    public int generateVouchers(VoucherDto voucherDto, int count) {
+        return voucherService.generateVouchers(voucherDto, count);
+    }
+
+    public ImportReport importVouchers(Path source) {
+        return voucherService.importVouchers(source);
     }
 
     public List<Voucher> getVouchers() {
         return voucherService.getVouchers();
     }
 
+    public List<Voucher> getVouchersByType(VoucherType voucherType) {
+        return voucherService.getVouchersByType(voucherType);
+    }
+
+    public List<Voucher> getVouchersByDiscountRange(double minDiscountValue, double maxDiscountValue) {
+        return voucherService.getVouchersByDiscountRange(minDiscountValue, maxDiscountValue);
+    }
+
+    public VoucherPage getVoucherPage(UUID after, int size) {
+        return voucherService.getVoucherPage(after, size);
+    }
+
+    public Stream<Voucher> streamVouchers() {
+        return voucherService.streamVouchers();
+    }
+
+    public Voucher getVoucher(UUID voucherId) {
+        return voucherService.getVoucher(voucherId);
+    }
+
+    public Voucher updateVoucher(Voucher voucher) {
+        return voucherService.updateVoucher(voucher);
+    }
+
+    public void deleteVoucher(UUID voucherId) {
+        voucherService.deleteVoucher(voucherId);
+    }
+
     public List<Customer> getBlackCustomers() {
         return customerService.getBlackCustomers();
     }
+
+    public Stream<Customer> streamBlackCustomers() {
+        return customerService.streamBlackCustomers();
+    }
+
+    public boolean isBlacklisted(int customerId) {
+        return customerService.isBlacklisted(customerId);
+    }
 }
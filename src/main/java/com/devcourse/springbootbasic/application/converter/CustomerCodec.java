@@ -0,0 +1,59 @@
+package com.devcourse.springbootbasic.application.converter;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.CsvRecordParser;
+
+import java.nio.ByteBuffer;
+
+public final class CustomerCodec {
+
+    public static final CsvRecordParser<Customer> PARSER = new CsvRecordParser<>() {
+        @Override
+        public Customer parse(String line) {
+            return decode(line);
+        }
+
+        @Override
+        public Customer parse(ByteBuffer line) {
+            return decode(line);
+        }
+    };
+
+    private CustomerCodec() {}
+
+    public static Customer decode(String line) {
+        int delimiter = VoucherCodec.indexOf(line, 0);
+        int nameEnd = VoucherCodec.indexOf(line, delimiter + 1);
+        return new Customer(parseCustomerId(line, delimiter), line.substring(delimiter + 1, nameEnd < 0 ? line.length() : nameEnd));
+    }
+
+    public static Customer decode(ByteBuffer line) {
+        AsciiWindow window = new AsciiWindow(line);
+        int delimiter = VoucherCodec.indexOf(window, 0);
+        int nameEnd = VoucherCodec.indexOf(window, delimiter + 1);
+        String name = window.subSequence(delimiter + 1, nameEnd < 0 ? window.length() : nameEnd).toString();
+        return new Customer(parseCustomerId(window, delimiter), name);
+    }
+
+    public static int parseCustomerId(CharSequence line, int end) {
+        if (end <= 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_CUSTOMER_INFO);
+        }
+        boolean negative = line.charAt(0) == '-';
+        long result = 0;
+        for (int i = negative ? 1 : 0; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9' || result > Integer.MAX_VALUE) {
+                throw new InvalidDataException(ErrorMessage.INVALID_CUSTOMER_INFO);
+            }
+            result = result * 10 + (c - '0');
+        }
+        if (result > Integer.MAX_VALUE) {
+            throw new InvalidDataException(ErrorMessage.INVALID_CUSTOMER_INFO);
+        }
+        return (int) (negative ? -result : result);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.devcourse.springbootbasic.application.converter;
 import com.devcourse.springbootbasic.application.domain.customer.Customer;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public final class CustomerConverter {
 
@@ -14,9 +15,12 @@ public final class CustomerConverter {
                 .toList();
     }
 
+    public static Stream<String> convertToStringStream(Stream<Customer> stream) {
+        return stream.map(Customer::toString);
+    }
+
     public static Customer convertCsvToCustomer(String blackCustomerInfo) {
-        String[] customerInfoArray = blackCustomerInfo.split(",");
-        return new Customer(Integer.parseInt(customerInfoArray[0]), customerInfoArray[1]);
+        return CustomerCodec.decode(blackCustomerInfo);
     }
 
 }
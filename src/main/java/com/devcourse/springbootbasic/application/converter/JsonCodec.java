@@ -0,0 +1,191 @@
+package com.devcourse.springbootbasic.application.converter;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class JsonCodec {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private JsonCodec() {}
+
+    public static StringBuilder encode(Voucher voucher, StringBuilder builder) {
+        builder.append("{\"voucherId\":\"").append(voucher.getVoucherId())
+                .append("\",\"voucherType\":\"").append(voucher.getVoucherType().name())
+                .append("\",\"discountValue\":");
+        return FixedPoint.format(voucher.getDiscountValue().getScaledValue(), builder).append('}');
+    }
+
+    public static StringBuilder encode(Customer customer, StringBuilder builder) {
+        builder.append("{\"customerId\":").append(customer.getCustomerId()).append(",\"name\":");
+        return appendString(customer.getName(), builder).append('}');
+    }
+
+    public static String encodeError(String message) {
+        return appendString(message, new StringBuilder("{\"error\":")).append('}').toString();
+    }
+
+    public static StringBuilder appendString(String value, StringBuilder builder) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"');
+    }
+
+    public static Map<String, String> decodeObject(String json) {
+        Parser parser = new Parser(json);
+        Map<String, String> fields = parser.object();
+        parser.skipWhitespace();
+        if (!parser.isEnd()) {
+            throw invalidBody();
+        }
+        return fields;
+    }
+
+    private static InvalidDataException invalidBody() {
+        return new InvalidDataException(ErrorMessage.INVALID_REQUEST_BODY);
+    }
+
+    private static final class Parser {
+
+        private final String json;
+        private int index;
+
+        private Parser(String json) {
+            this.json = json;
+        }
+
+        private Map<String, String> object() {
+            Map<String, String> fields = new HashMap<>();
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                index++;
+                return fields;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = string();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                fields.put(key, value());
+                skipWhitespace();
+                char next = next();
+                if (next == '}') {
+                    return fields;
+                }
+                if (next != ',') {
+                    throw invalidBody();
+                }
+            }
+        }
+
+        private String value() {
+            char c = peek();
+            if (c == '"') {
+                return string();
+            }
+            int start = index;
+            while (!isEnd() && ",} \t\r\n".indexOf(json.charAt(index)) < 0) {
+                index++;
+            }
+            String literal = json.substring(start, index);
+            if (literal.isEmpty() || c == '{' || c == '[') {
+                throw invalidBody();
+            }
+            return literal.equals("null") ? null : literal;
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder builder = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return builder.toString();
+                }
+                if (c != '\\') {
+                    builder.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> builder.append(escaped);
+                    case 'b' -> builder.append('\b');
+                    case 'f' -> builder.append('\f');
+                    case 'n' -> builder.append('\n');
+                    case 'r' -> builder.append('\r');
+                    case 't' -> builder.append('\t');
+                    case 'u' -> builder.append(unicode());
+                    default -> throw invalidBody();
+                }
+            }
+        }
+
+        private char unicode() {
+            if (index + 4 > json.length()) {
+                throw invalidBody();
+            }
+            try {
+                char c = (char) Integer.parseInt(json, index, index + 4, 16);
+                index += 4;
+                return c;
+            } catch (NumberFormatException e) {
+                throw new InvalidDataException(ErrorMessage.INVALID_REQUEST_BODY, e);
+            }
+        }
+
+        private void expect(char expected) {
+            if (next() != expected) {
+                throw invalidBody();
+            }
+        }
+
+        private char next() {
+            char c = peek();
+            index++;
+            return c;
+        }
+
+        private char peek() {
+            if (isEnd()) {
+                throw invalidBody();
+            }
+            return json.charAt(index);
+        }
+
+        private void skipWhitespace() {
+            while (!isEnd() && Character.isWhitespace(json.charAt(index))) {
+                index++;
+            }
+        }
+
+        private boolean isEnd() {
+            return index >= json.length();
+        }
+    }
+
+}
@@ -0,0 +1,276 @@
+package com.devcourse.springbootbasic.application.converter;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.CsvRecordParser;
+import com.devcourse.springbootbasic.application.io.VoucherEntry;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+public final class VoucherCodec {
+
+    public static final CsvRecordParser<Voucher> PARSER = new CsvRecordParser<>() {
+        @Override
+        public Voucher parse(String line) {
+            return decode(line);
+        }
+
+        @Override
+        public Voucher parse(ByteBuffer line) {
+            return decode(line);
+        }
+    };
+
+    public static final CsvRecordParser<VoucherEntry> ENTRY_PARSER = new CsvRecordParser<>() {
+        @Override
+        public VoucherEntry parse(String line) {
+            return decodeEntry(line);
+        }
+
+        @Override
+        public VoucherEntry parse(ByteBuffer line) {
+            return decodeEntry(new AsciiWindow(line));
+        }
+    };
+
+    private static final char DELIMITER = ',';
+    private static final String TOMBSTONE = "DELETED";
+    private static final int UUID_LENGTH = 36;
+    private static final int CHECKSUM_LENGTH = 8;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final VoucherType[] VOUCHER_TYPES = VoucherType.values();
+
+    private VoucherCodec() {}
+
+    public static Voucher decode(CharSequence line) {
+        int typeStart = indexOf(line, 0) + 1;
+        int valueStart = indexOf(line, typeStart) + 1;
+        int valueEnd = indexOf(line, valueStart);
+        valueEnd = valueEnd < 0 ? line.length() : valueEnd;
+        if (typeStart <= 0 || valueStart <= 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_INFO);
+        }
+        if (valueEnd < line.length() && !hasValidChecksum(line, valueEnd)) {
+            throw new InvalidDataException(ErrorMessage.CORRUPTED_RECORD);
+        }
+        UUID voucherId = parseUuid(line, 0, typeStart - 1);
+        VoucherType voucherType = parseVoucherType(line, typeStart, valueStart - 1);
+        long scaledValue = FixedPoint.parseStored(line, valueStart, valueEnd);
+        return new Voucher(voucherId, voucherType, DiscountValue.ofScaled(voucherType, scaledValue));
+    }
+
+    public static Voucher decode(ByteBuffer line) {
+        return decode(new AsciiWindow(line));
+    }
+
+    public static VoucherEntry decodeEntry(CharSequence line) {
+        int typeStart = indexOf(line, 0) + 1;
+        int valueStart = typeStart > 0 ? indexOf(line, typeStart) + 1 : 0;
+        if (valueStart <= 0 || !regionMatches(line, typeStart, valueStart - 1, TOMBSTONE)) {
+            return VoucherEntry.of(decode(line));
+        }
+        int valueEnd = indexOf(line, valueStart);
+        if (valueEnd < 0 || !hasValidChecksum(line, valueEnd)) {
+            throw new InvalidDataException(ErrorMessage.CORRUPTED_RECORD);
+        }
+        return VoucherEntry.tombstone(parseUuid(line, 0, typeStart - 1));
+    }
+
+    public static void encode(Voucher voucher, StringBuilder builder) {
+        UUID voucherId = voucher.getVoucherId();
+        appendHex(builder, voucherId.getMostSignificantBits() >>> 32, 8).append('-');
+        appendHex(builder, voucherId.getMostSignificantBits() >>> 16, 4).append('-');
+        appendHex(builder, voucherId.getMostSignificantBits(), 4).append('-');
+        appendHex(builder, voucherId.getLeastSignificantBits() >>> 48, 4).append('-');
+        appendHex(builder, voucherId.getLeastSignificantBits(), 12);
+        builder.append(DELIMITER)
+                .append(voucher.getVoucherType().name())
+                .append(DELIMITER);
+        FixedPoint.format(voucher.getDiscountValue().getScaledValue(), builder);
+    }
+
+    public static void encode(Voucher voucher, ByteBuffer buffer) {
+        putUuid(buffer, voucher.getVoucherId());
+        buffer.put((byte) DELIMITER);
+        putAscii(buffer, voucher.getVoucherType().name());
+        buffer.put((byte) DELIMITER);
+        putAscii(buffer, FixedPoint.format(voucher.getDiscountValue().getScaledValue(), new StringBuilder(24)));
+    }
+
+    public static void encodeWithChecksum(Voucher voucher, ByteBuffer buffer) {
+        int start = buffer.position();
+        encode(voucher, buffer);
+        putChecksum(buffer, start);
+    }
+
+    public static void encode(VoucherEntry entry, ByteBuffer buffer) {
+        if (!entry.isTombstone()) {
+            encodeWithChecksum(entry.voucher(), buffer);
+            return;
+        }
+        int start = buffer.position();
+        putUuid(buffer, entry.voucherId());
+        buffer.put((byte) DELIMITER);
+        putAscii(buffer, TOMBSTONE);
+        buffer.put((byte) DELIMITER).put((byte) '0');
+        putChecksum(buffer, start);
+    }
+
+    public static boolean isTombstone(ByteBuffer line) {
+        AsciiWindow window = new AsciiWindow(line);
+        int typeStart = indexOf(window, 0) + 1;
+        int typeEnd = typeStart > 0 ? indexOf(window, typeStart) : -1;
+        return typeEnd > 0 && regionMatches(window, typeStart, typeEnd, TOMBSTONE);
+    }
+
+    public static boolean isIntact(ByteBuffer line, boolean checksumRequired) {
+        AsciiWindow window = new AsciiWindow(line);
+        int valueEnd = checksumDelimiterOf(window);
+        return valueEnd < 0 ? !checksumRequired : hasValidChecksum(window, valueEnd);
+    }
+
+    public static boolean hasChecksum(ByteBuffer line) {
+        return checksumDelimiterOf(new AsciiWindow(line)) >= 0;
+    }
+
+    static UUID parseUuid(CharSequence line, int start, int end) {
+        if (end - start != UUID_LENGTH
+                || line.charAt(start + 8) != '-' || line.charAt(start + 13) != '-'
+                || line.charAt(start + 18) != '-' || line.charAt(start + 23) != '-') {
+            return parseUuidSlowly(line, start, end);
+        }
+        long mostSignificantBits = parseHex(line, start, start + 8) << 32
+                | parseHex(line, start + 9, start + 13) << 16
+                | parseHex(line, start + 14, start + 18);
+        long leastSignificantBits = parseHex(line, start + 19, start + 23) << 48
+                | parseHex(line, start + 24, start + 36);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    static VoucherType parseVoucherType(CharSequence line, int start, int end) {
+        for (VoucherType voucherType : VOUCHER_TYPES) {
+            if (regionMatches(line, start, end, voucherType.name())
+                    || regionMatches(line, start, end, voucherType.getTypeOrdinal())) {
+                return voucherType;
+            }
+        }
+        return VoucherType.getVoucherType(line.subSequence(start, end).toString().trim());
+    }
+
+    static int indexOf(CharSequence line, int from) {
+        for (int i = from; i < line.length(); i++) {
+            if (line.charAt(i) == DELIMITER) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int checksumDelimiterOf(CharSequence line) {
+        int typeStart = indexOf(line, 0) + 1;
+        int valueStart = typeStart > 0 ? indexOf(line, typeStart) + 1 : 0;
+        return valueStart > 0 ? indexOf(line, valueStart) : -1;
+    }
+
+    private static boolean hasValidChecksum(CharSequence line, int dataEnd) {
+        int checksumStart = dataEnd + 1;
+        if (line.length() - checksumStart != CHECKSUM_LENGTH) {
+            return false;
+        }
+        for (int i = checksumStart; i < line.length(); i++) {
+            if (Character.digit(line.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return (int) parseHex(line, checksumStart, line.length()) == checksum(line, 0, dataEnd);
+    }
+
+    private static int checksum(CharSequence line, int start, int end) {
+        if (line instanceof AsciiWindow window) {
+            return window.checksum(start, end);
+        }
+        CRC32C crc = new CRC32C();
+        for (int i = start; i < end; i++) {
+            crc.update(line.charAt(i));
+        }
+        return (int) crc.getValue();
+    }
+
+    private static long parseHex(CharSequence line, int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(line.charAt(i), 16);
+            if (digit < 0) {
+                throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_ID);
+            }
+            result = result << 4 | digit;
+        }
+        return result;
+    }
+
+    private static UUID parseUuidSlowly(CharSequence line, int start, int end) {
+        try {
+            return UUID.fromString(line.subSequence(start, end).toString().trim());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_ID, e);
+        }
+    }
+
+    private static boolean regionMatches(CharSequence line, int start, int end, String token) {
+        if (end - start != token.length()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (line.charAt(start + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static StringBuilder appendHex(StringBuilder builder, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            builder.append((char) HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+        }
+        return builder;
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID voucherId) {
+        putHex(buffer, voucherId.getMostSignificantBits() >>> 32, 8);
+        buffer.put((byte) '-');
+        putHex(buffer, voucherId.getMostSignificantBits() >>> 16, 4);
+        buffer.put((byte) '-');
+        putHex(buffer, voucherId.getMostSignificantBits(), 4);
+        buffer.put((byte) '-');
+        putHex(buffer, voucherId.getLeastSignificantBits() >>> 48, 4);
+        buffer.put((byte) '-');
+        putHex(buffer, voucherId.getLeastSignificantBits(), 12);
+    }
+
+    private static void putChecksum(ByteBuffer buffer, int start) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start, buffer.position() - start));
+        buffer.put((byte) DELIMITER);
+        putHex(buffer, crc.getValue(), CHECKSUM_LENGTH);
+    }
+
+    private static void putHex(ByteBuffer buffer, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            buffer.put(HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+        }
+    }
+
+    private static void putAscii(ByteBuffer buffer, CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+}
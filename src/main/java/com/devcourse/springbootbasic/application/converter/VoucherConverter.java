@@ -1,13 +1,12 @@
 package com.devcourse.springbootbasic.application.converter;
 
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
-import com.devcourse.springbootbasic.application.model.DiscountValue;
 import com.devcourse.springbootbasic.application.model.VoucherDto;
-import com.devcourse.springbootbasic.application.model.VoucherType;
 
-import java.text.MessageFormat;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public final class VoucherConverter {
 
@@ -19,18 +18,26 @@ public final class VoucherConverter {
                 .toList();
     }
 
+    public static Stream<String> convertToStringStream(Stream<Voucher> stream) {
+        return stream.map(Voucher::toString);
+    }
+
     public static Voucher convertDtoToVoucher(VoucherDto voucherDto, UUID uuid) {
         return new Voucher(uuid, voucherDto.voucherType(), voucherDto.discountValue());
     }
 
     public static String convertVoucherToCsv(Voucher voucher) {
-        return MessageFormat.format("{0},{1},{2}", voucher.getVoucherId(), voucher.getVoucherType(), voucher.getDiscountValue().getValue());
+        StringBuilder builder = new StringBuilder(64);
+        VoucherCodec.encode(voucher, builder);
+        return builder.toString();
     }
 
     public static Voucher convertCsvToVoucher(String voucherInfo) {
-        String[] voucherInfoArray = voucherInfo.split(",");
-        VoucherType voucherType = VoucherType.getVoucherType(voucherInfoArray[1]);
-        return new Voucher(UUID.fromString(voucherInfoArray[0]), voucherType, new DiscountValue(voucherType, voucherInfoArray[2]));
+        return VoucherCodec.decode(voucherInfo);
+    }
+
+    public static Voucher convertCsvToVoucher(ByteBuffer voucherInfo) {
+        return VoucherCodec.decode(voucherInfo);
     }
 
 }
@@ -0,0 +1,188 @@
+package com.devcourse.springbootbasic.application.domain.voucher;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class DiscountEngine {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private DiscountEngine() {}
+
+    public static double[] discountedPrices(Voucher voucher, long[] prices) {
+        double[] result = new double[prices.length];
+        VoucherType voucherType = voucher.getVoucherType();
+        double discountValue = voucher.getDiscountValue().getValue();
+        forEachRange(prices.length, PARALLEL_THRESHOLD, (from, to) -> apply(voucherType, discountValue, prices, result, from, to));
+        validate(result);
+        return result;
+    }
+
+    public static long[] discountedMinorPrices(Voucher voucher, long[] minorPrices) {
+        validateMinorPrices(minorPrices);
+        long[] result = new long[minorPrices.length];
+        long scaledValue = voucher.getDiscountValue().getScaledValue();
+        switch (voucher.getVoucherType()) {
+            case FIXED_AMOUNT -> forEachRange(minorPrices.length, PARALLEL_THRESHOLD, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = minorPrices[i] - scaledValue;
+                }
+            });
+            case PERCENT_DISCOUNT -> {
+                long remaining = FixedPoint.PERCENT_DENOMINATOR - scaledValue;
+                long half = FixedPoint.PERCENT_DENOMINATOR / 2;
+                forEachRange(minorPrices.length, PARALLEL_THRESHOLD, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        result[i] = (minorPrices[i] * remaining + half) / FixedPoint.PERCENT_DENOMINATOR;
+                    }
+                });
+            }
+        }
+        for (long price : result) {
+            if (price < 0) {
+                throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
+            }
+        }
+        return result;
+    }
+
+    public static double[][] discountedPrices(List<Voucher> vouchers, long[] prices) {
+        double[][] result = new double[vouchers.size()][];
+        int rowThreshold = Math.max(1, PARALLEL_THRESHOLD / Math.max(1, prices.length));
+        forEachRange(vouchers.size(), rowThreshold, (from, to) -> {
+            for (int row = from; row < to; row++) {
+                Voucher voucher = vouchers.get(row);
+                result[row] = new double[prices.length];
+                apply(voucher.getVoucherType(), voucher.getDiscountValue().getValue(), prices, result[row], 0, prices.length);
+                validate(result[row]);
+            }
+        });
+        return result;
+    }
+
+    public static double[] lowestDiscountedPrices(List<Voucher> vouchers, long[] prices) {
+        double maxFixedAmount = 0;
+        double minPercentFactor = 1;
+        for (Voucher voucher : vouchers) {
+            double discountValue = voucher.getDiscountValue().getValue();
+            switch (voucher.getVoucherType()) {
+                case FIXED_AMOUNT -> maxFixedAmount = Math.max(maxFixedAmount, discountValue);
+                case PERCENT_DISCOUNT -> minPercentFactor = Math.min(minPercentFactor, percentFactor(discountValue));
+            }
+        }
+        double fixedAmount = maxFixedAmount;
+        double percentFactor = minPercentFactor;
+        double[] result = new double[prices.length];
+        forEachRange(prices.length, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = Math.min(prices[i] - fixedAmount, prices[i] * percentFactor);
+            }
+        });
+        validate(result);
+        return result;
+    }
+
+    public static long[] lowestDiscountedMinorPrices(long maxFixedAmount, long maxPercent, long[] minorPrices) {
+        validateMinorPrices(minorPrices);
+        long remaining = FixedPoint.PERCENT_DENOMINATOR - maxPercent;
+        long half = FixedPoint.PERCENT_DENOMINATOR / 2;
+        long[] result = new long[minorPrices.length];
+        forEachRange(minorPrices.length, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = Math.max(0, Math.min(minorPrices[i] - maxFixedAmount, (minorPrices[i] * remaining + half) / FixedPoint.PERCENT_DENOMINATOR));
+            }
+        });
+        return result;
+    }
+
+    private static void apply(VoucherType voucherType, double discountValue, long[] prices, double[] result, int from, int to) {
+        switch (voucherType) {
+            case FIXED_AMOUNT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = prices[i] - discountValue;
+                }
+            }
+            case PERCENT_DISCOUNT -> {
+                double factor = percentFactor(discountValue);
+                for (int i = from; i < to; i++) {
+                    result[i] = prices[i] * factor;
+                }
+            }
+        }
+    }
+
+    private static void validateMinorPrices(long[] minorPrices) {
+        long min = 0;
+        long max = 0;
+        for (long price : minorPrices) {
+            min = Math.min(min, price);
+            max = Math.max(max, price);
+        }
+        if (min < 0 || max > FixedPoint.MAX_PERCENT_PRICE) {
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
+        }
+    }
+
+    private static double percentFactor(double discountValue) {
+        return 1 - discountValue / 100;
+    }
+
+    private static void validate(double[] prices) {
+        double min = 0;
+        for (double price : prices) {
+            min = Math.min(min, price);
+        }
+        if (min < 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
+        }
+    }
+
+    private static void forEachRange(int length, int threshold, RangeAction action) {
+        if (length <= threshold) {
+            action.apply(0, length);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new RangeTask(0, length, threshold, action));
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final RangeAction action;
+
+        private RangeTask(int from, int to, int threshold, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.apply(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, threshold, action), new RangeTask(middle, to, threshold, action));
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package com.devcourse.springbootbasic.application.domain.voucher;
 
 import com.devcourse.springbootbasic.application.constant.ErrorMessage;
 import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
 import com.devcourse.springbootbasic.application.model.VoucherType;
 import com.devcourse.springbootbasic.application.exception.InvalidDataException;
 
@@ -22,15 +23,31 @@ public class Voucher {
     public double discountedPrice(long originalPrice) {
         double result = switch (voucherType) {
             case FIXED_AMOUNT -> originalPrice - discountValue.getValue();
-            case PERCENT_DISCOUNT -> originalPrice - (1 - discountValue.getValue() / 100);
+            case PERCENT_DISCOUNT -> originalPrice * (1 - discountValue.getValue() / 100);
         };
         validateDiscountedPrice(result);
         return result;
     }
 
+    public long discountedMinorPrice(long originalMinorPrice) {
+        validateDiscountedMinorPrice(originalMinorPrice);
+        long result = switch (voucherType) {
+            case FIXED_AMOUNT -> originalMinorPrice - discountValue.getScaledValue();
+            case PERCENT_DISCOUNT -> FixedPoint.applyPercent(originalMinorPrice, discountValue.getScaledValue());
+        };
+        validateDiscountedMinorPrice(result);
+        return result;
+    }
+
+    private void validateDiscountedMinorPrice(long price) {
+        if (price < 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
+        }
+    }
+
     private void validateDiscountedPrice(double price) {
         if (price < 0) {
-            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE.getMessageText());
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
         }
     }
 
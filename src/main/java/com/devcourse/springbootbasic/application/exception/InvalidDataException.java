@@ -1,16 +1,39 @@
-package com.devcourse.springbootbasic.application.exception;
-
-public class InvalidDataException extends RuntimeException {
-
-    public InvalidDataException() {
-        super();
-    }
-
-    public InvalidDataException(String errorMessage) {
-        super(errorMessage);
-    }
-
-    public InvalidDataException(String errorMessage, Throwable cause) {
-        super(errorMessage, cause);
-    }
-}
+package com.devcourse.springbootbasic.application.exception;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+
+import java.util.Optional;
+
+public class InvalidDataException extends RuntimeException {
+
+    private final ErrorMessage errorMessage;
+
+    public InvalidDataException() {
+        super();
+        this.errorMessage = null;
+    }
+
+    public InvalidDataException(String errorMessage) {
+        super(errorMessage);
+        this.errorMessage = null;
+    }
+
+    public InvalidDataException(String errorMessage, Throwable cause) {
+        super(errorMessage, cause);
+        this.errorMessage = null;
+    }
+
+    public InvalidDataException(ErrorMessage errorMessage) {
+        super(errorMessage.getMessageText());
+        this.errorMessage = errorMessage;
+    }
+
+    public InvalidDataException(ErrorMessage errorMessage, Throwable cause) {
+        super(errorMessage.getMessageText(), cause);
+        this.errorMessage = errorMessage;
+    }
+
+    public Optional<ErrorMessage> getErrorMessage() {
+        return Optional.ofNullable(errorMessage);
+    }
+}
@@ -0,0 +1,9 @@
+package com.devcourse.springbootbasic.application.io;
+
+public record BatchStatistics(
+        long batchCount,
+        long recordCount,
+        long lastBatchLatencyNanos,
+        long maxBatchLatencyNanos
+) {
+}
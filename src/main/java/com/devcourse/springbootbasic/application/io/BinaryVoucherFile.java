@@ -0,0 +1,326 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32C;
+
+public class BinaryVoucherFile implements Closeable {
+
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = Long.BYTES * 2 + Byte.BYTES + Long.BYTES;
+
+    private static final int MAGIC = 0x56434852;
+    private static final short VERSION = 2;
+    private static final short LEGACY_VERSION = 1;
+    private static final int TYPE_OFFSET = Long.BYTES * 2;
+    private static final byte TOMBSTONE = -1;
+    private static final int READ_BATCH_RECORDS = 4096;
+    private static final VoucherType[] VOUCHER_TYPES = VoucherType.values();
+
+    private final FileChannel channel;
+    private final CRC32C recordChecksum;
+    private long checksum;
+    private volatile long recordCount;
+
+    private BinaryVoucherFile(FileChannel channel) {
+        this.channel = channel;
+        this.recordChecksum = new CRC32C();
+    }
+
+    public static BinaryVoucherFile open(Path path) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            BinaryVoucherFile binaryVoucherFile = new BinaryVoucherFile(channel);
+            binaryVoucherFile.load();
+            return binaryVoucherFile;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public long append(Voucher voucher) {
+        return appendAll(List.of(voucher));
+    }
+
+    public synchronized long appendAll(Collection<Voucher> vouchers) {
+        long firstRecordNumber = recordCount;
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * vouchers.size());
+        vouchers.forEach(voucher -> encode(voucher, buffer));
+        buffer.flip();
+        try {
+            writeFully(buffer.duplicate(), positionOf(firstRecordNumber));
+            checksum += checksumOf(buffer);
+            recordCount = firstRecordNumber + vouchers.size();
+            writeHeader();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        return firstRecordNumber;
+    }
+
+    public Voucher read(long recordNumber) {
+        return find(recordNumber).orElseThrow(() -> new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND));
+    }
+
+    public Optional<Voucher> find(long recordNumber) {
+        ByteBuffer buffer = readRecord(recordNumber);
+        return buffer.get(TYPE_OFFSET) == TOMBSTONE ? Optional.empty() : Optional.of(decode(buffer));
+    }
+
+    public synchronized void overwrite(long recordNumber, Voucher voucher) {
+        ByteBuffer previous = readRecord(recordNumber);
+        if (previous.get(TYPE_OFFSET) == TOMBSTONE) {
+            throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        encode(voucher, record);
+        replaceRecord(recordNumber, previous, record.flip());
+    }
+
+    public synchronized boolean tombstone(long recordNumber) {
+        ByteBuffer previous = readRecord(recordNumber);
+        if (previous.get(TYPE_OFFSET) == TOMBSTONE) {
+            return false;
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).put(previous.duplicate()).put(TYPE_OFFSET, TOMBSTONE);
+        replaceRecord(recordNumber, previous, record.flip());
+        return true;
+    }
+
+    public Stream<Voucher> stream() {
+        return StreamSupport.stream(new RecordSpliterator(recordCount), false);
+    }
+
+    public void forEachRecord(ObjLongConsumer<Voucher> action) {
+        new RecordSpliterator(recordCount).forEachRecord(action);
+    }
+
+    public long size() {
+        return recordCount;
+    }
+
+    public synchronized long getChecksum() {
+        return checksum;
+    }
+
+    public void force() {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public static void encode(Voucher voucher, ByteBuffer buffer) {
+        buffer.putLong(voucher.getVoucherId().getMostSignificantBits())
+                .putLong(voucher.getVoucherId().getLeastSignificantBits())
+                .put((byte) voucher.getVoucherType().ordinal())
+                .putLong(voucher.getDiscountValue().getScaledValue());
+    }
+
+    public static Voucher decode(ByteBuffer buffer) {
+        UUID voucherId = new UUID(buffer.getLong(), buffer.getLong());
+        int typeOrdinal = buffer.get();
+        if (typeOrdinal < 0 || typeOrdinal >= VOUCHER_TYPES.length) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+        }
+        VoucherType voucherType = VOUCHER_TYPES[typeOrdinal];
+        return new Voucher(voucherId, voucherType, DiscountValue.ofScaled(voucherType, buffer.getLong()));
+    }
+
+    private void load() throws IOException {
+        if (channel.size() == 0) {
+            writeHeader();
+            return;
+        }
+        if (channel.size() < HEADER_SIZE) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+        }
+        short version = header.getShort();
+        if (version != VERSION && version != LEGACY_VERSION) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+        }
+        header.getShort();
+        long count = header.getLong();
+        long expectedChecksum = header.getLong();
+        if (positionOf(count) > channel.size()) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+        }
+        channel.truncate(positionOf(count));
+        verifyChecksum(count, expectedChecksum, version == LEGACY_VERSION);
+        recordCount = count;
+        if (version == LEGACY_VERSION) {
+            writeHeader();
+        }
+    }
+
+    private void verifyChecksum(long count, long expectedChecksum, boolean legacy) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * READ_BATCH_RECORDS);
+        CRC32C legacyChecksum = new CRC32C();
+        long position = HEADER_SIZE;
+        long end = positionOf(count);
+        while (position < end) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+            readFully(buffer, position);
+            position += buffer.flip().remaining();
+            checksum += checksumOf(buffer);
+            if (legacy) {
+                legacyChecksum.update(buffer);
+            }
+        }
+        if ((legacy ? legacyChecksum.getValue() : checksum) != expectedChecksum) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+        }
+    }
+
+    private ByteBuffer readRecord(long recordNumber) {
+        if (recordNumber < 0 || recordNumber >= recordCount) {
+            throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        try {
+            readFully(buffer, positionOf(recordNumber));
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        return buffer.flip();
+    }
+
+    private void replaceRecord(long recordNumber, ByteBuffer previous, ByteBuffer record) {
+        try {
+            writeFully(record.duplicate(), positionOf(recordNumber));
+            checksum += checksumOf(record) - checksumOf(previous);
+            writeHeader();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private long checksumOf(ByteBuffer records) {
+        long sum = 0;
+        for (int position = records.position(); position < records.limit(); position += RECORD_SIZE) {
+            recordChecksum.reset();
+            recordChecksum.update(records.slice(position, RECORD_SIZE));
+            sum += recordChecksum.getValue();
+        }
+        return sum;
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putLong(recordCount)
+                .putLong(checksum);
+        writeFully(header.clear(), 0);
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+            }
+            position += read;
+        }
+    }
+
+    private static long positionOf(long recordNumber) {
+        return HEADER_SIZE + recordNumber * RECORD_SIZE;
+    }
+
+    private final class RecordSpliterator extends Spliterators.AbstractSpliterator<Voucher> {
+
+        private final long end;
+        private final ByteBuffer buffer;
+        private long next;
+
+        private RecordSpliterator(long end) {
+            super(end, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.end = end;
+            this.buffer = ByteBuffer.allocate(RECORD_SIZE * READ_BATCH_RECORDS).limit(0);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Voucher> action) {
+            return advance((voucher, recordNumber) -> action.accept(voucher));
+        }
+
+        private void forEachRecord(ObjLongConsumer<Voucher> action) {
+            boolean advanced = true;
+            while (advanced) {
+                advanced = advance(action);
+            }
+        }
+
+        private boolean advance(ObjLongConsumer<Voucher> action) {
+            while (buffer.hasRemaining() || next < end) {
+                if (!buffer.hasRemaining()) {
+                    fill();
+                }
+                long recordNumber = next - buffer.remaining() / RECORD_SIZE;
+                if (buffer.get(buffer.position() + TYPE_OFFSET) != TOMBSTONE) {
+                    action.accept(decode(buffer), recordNumber);
+                    return true;
+                }
+                buffer.position(buffer.position() + RECORD_SIZE);
+            }
+            return false;
+        }
+
+        private void fill() {
+            int records = (int) Math.min(READ_BATCH_RECORDS, end - next);
+            buffer.clear().limit(records * RECORD_SIZE);
+            try {
+                readFully(buffer, positionOf(next));
+            } catch (IOException e) {
+                throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+            }
+            buffer.flip();
+            next += records;
+        }
+    }
+
+}
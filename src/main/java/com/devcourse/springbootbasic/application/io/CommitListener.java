@@ -0,0 +1,8 @@
+package com.devcourse.springbootbasic.application.io;
+
+public interface CommitListener<T> {
+    void onCommit(T record, long offset);
+
+    default void onBatchCommitted(long committedPosition) {
+    }
+}
@@ -1,10 +1,17 @@
 package com.devcourse.springbootbasic.application.io;
 
+import com.devcourse.springbootbasic.application.constant.OutputMessage;
 import com.devcourse.springbootbasic.application.model.*;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.text.MessageFormat;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+@Lazy
 @Component
 public class ConsoleManager {
 
@@ -28,6 +35,31 @@ public class ConsoleManager {
         outputConsole.printList(listMenu.getListMenuPrompt(), list);
     }
 
+    public void printList(ListMenu listMenu, Stream<String> stream) {
+        outputConsole.printList(listMenu.getListMenuPrompt(), stream);
+    }
+
+    public void printPage(List<String> page) {
+        outputConsole.printPage(page);
+    }
+
+    public boolean consoleNextPage() {
+        return inputConsole.readNextPage();
+    }
+
+    public void printVoucher(String voucher) {
+        outputConsole.printVoucher(OutputMessage.FOUND_VOUCHER_PROMPT.getMessageText(), voucher);
+    }
+
+    public void printGenerationDone(int count) {
+        outputConsole.printMessage(MessageFormat.format(OutputMessage.GENERATION_DONE_PROMPT.getMessageText(), count));
+    }
+
+    public void printImportReport(ImportReport report) {
+        outputConsole.printMessage(MessageFormat.format(OutputMessage.IMPORT_DONE_PROMPT.getMessageText(),
+                report.importedRows(), report.rejectedRows(), report.rowsPerSecond()));
+    }
+
     public Menu consoleMenu() {
         outputConsole.showMenu();
         return inputConsole.readMenu();
@@ -38,6 +70,18 @@ public class ConsoleManager {
         return inputConsole.readListMenu();
     }
 
+    public UUID consoleVoucherId() {
+        return inputConsole.readVoucherId();
+    }
+
+    public int consoleVoucherCount() {
+        return inputConsole.readVoucherCount();
+    }
+
+    public Path consoleFilePath() {
+        return inputConsole.readFilePath();
+    }
+
     private VoucherType consoleVoucherType() {
         outputConsole.showVoucherType();
         return inputConsole.readVoucherType();
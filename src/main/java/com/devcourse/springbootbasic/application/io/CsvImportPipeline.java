@@ -0,0 +1,270 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.IoMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class CsvImportPipeline<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvImportPipeline.class);
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long REPORT_INTERVAL_SECONDS = 1;
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final CsvRecordParser<T> parser;
+    private final Predicate<T> validator;
+    private final Consumer<List<T>> sink;
+    private final int parallelism;
+    private final int batchSize;
+    private final ByteBuffer endOfChunks = ByteBuffer.allocate(0);
+    private final List<T> endOfRecords = new ArrayList<>(0);
+    private final StageQueue<ByteBuffer> readQueue = new StageQueue<>();
+    private final StageQueue<List<T>> parseQueue = new StageQueue<>();
+    private final StageQueue<List<T>> validateQueue = new StageQueue<>();
+    private final LongAdder importedRows = new LongAdder();
+    private final LongAdder rejectedRows = new LongAdder();
+    private final LongAdder parsedRows = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    public CsvImportPipeline(CsvRecordParser<T> parser, Predicate<T> validator, Consumer<List<T>> sink, int parallelism, int batchSize) {
+        this.parser = parser;
+        this.validator = validator;
+        this.sink = sink;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+    }
+
+    public ImportReport run(Path source) {
+        long start = System.nanoTime();
+        ExecutorService readPool = Executors.newSingleThreadExecutor();
+        ExecutorService parsePool = Executors.newFixedThreadPool(parallelism);
+        ExecutorService validatePool = Executors.newFixedThreadPool(parallelism);
+        ExecutorService writePool = Executors.newSingleThreadExecutor();
+        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor();
+        List<ExecutorService> pools = List.of(readPool, parsePool, validatePool, writePool, monitor);
+        try {
+            monitor.scheduleAtFixedRate(() -> logProgress(start), REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            submit(readPool, () -> readChunks(source));
+            startStage(parsePool, readQueue, endOfChunks, parseQueue, this::parseChunk);
+            startStage(validatePool, parseQueue, endOfRecords, validateQueue, this::validateRecords);
+            submit(writePool, this::writeBatches);
+            completion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof InvalidDataException invalidDataException) {
+                throw invalidDataException;
+            }
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e.getCause());
+        } finally {
+            pools.forEach(ExecutorService::shutdownNow);
+            recordMetrics(source);
+        }
+        ImportReport report = new ImportReport(importedRows.sum(), rejectedRows.sum(), System.nanoTime() - start,
+                readQueue.maxDepth(), parseQueue.maxDepth(), validateQueue.maxDepth());
+        logger.info("import finished: {} rows, {} rejected, {} rows/s", report.importedRows(), report.rejectedRows(), report.rowsPerSecond());
+        return report;
+    }
+
+    private void readChunks(Path source) throws IOException, InterruptedException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                while (buffer.hasRemaining() && !endOfFile) {
+                    int read = channel.read(buffer);
+                    endOfFile = read < 0;
+                    bytesRead.add(Math.max(0, read));
+                }
+                int end = endOfFile ? buffer.position() : lastLineBreak(buffer) + 1;
+                if (end == 0 && !endOfFile) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                    continue;
+                }
+                if (end > 0) {
+                    readQueue.put(ByteBuffer.wrap(Arrays.copyOf(buffer.array(), end)));
+                }
+                buffer.flip().position(end);
+                buffer.compact();
+            }
+        }
+        for (int i = 0; i < parallelism; i++) {
+            readQueue.put(endOfChunks);
+        }
+    }
+
+    private List<T> parseChunk(ByteBuffer chunk) {
+        List<T> records = new ArrayList<>();
+        int lineStart = 0;
+        int limit = chunk.limit();
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && chunk.get(i) != LINE_SEPARATOR) {
+                continue;
+            }
+            int lineEnd = i > lineStart && chunk.get(i - 1) == CARRIAGE_RETURN ? i - 1 : i;
+            if (lineEnd > lineStart) {
+                parseLine(chunk.slice(lineStart, lineEnd - lineStart), records);
+            }
+            lineStart = i + 1;
+        }
+        return records;
+    }
+
+    private void parseLine(ByteBuffer line, List<T> records) {
+        try {
+            records.add(parser.parse(line));
+            parsedRows.increment();
+        } catch (IllegalArgumentException | InvalidDataException e) {
+            parseFailures.increment();
+            rejectedRows.increment();
+        }
+    }
+
+    private List<T> validateRecords(List<T> records) {
+        List<T> validated = new ArrayList<>(records.size());
+        for (T record : records) {
+            if (validator.test(record)) {
+                validated.add(record);
+            } else {
+                rejectedRows.increment();
+            }
+        }
+        return validated;
+    }
+
+    private void writeBatches() throws InterruptedException {
+        List<T> batch = new ArrayList<>(batchSize);
+        int remainingProducers = parallelism;
+        while (remainingProducers > 0) {
+            List<T> records = validateQueue.take();
+            if (records == endOfRecords) {
+                remainingProducers--;
+                continue;
+            }
+            for (T record : records) {
+                batch.add(record);
+                if (batch.size() == batchSize) {
+                    flushBatch(batch);
+                }
+            }
+        }
+        flushBatch(batch);
+        completion.complete(null);
+    }
+
+    private void flushBatch(List<T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        sink.accept(List.copyOf(batch));
+        importedRows.add(batch.size());
+        batch.clear();
+    }
+
+    private <I> void startStage(ExecutorService pool, StageQueue<I> input, I endOfInput,
+                                StageQueue<List<T>> output, Function<I, List<T>> task) {
+        AtomicInteger runningWorkers = new AtomicInteger(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            submit(pool, () -> {
+                I item;
+                while ((item = input.take()) != endOfInput) {
+                    output.put(task.apply(item));
+                }
+                if (runningWorkers.decrementAndGet() == 0) {
+                    for (int j = 0; j < parallelism; j++) {
+                        output.put(endOfRecords);
+                    }
+                }
+            });
+        }
+    }
+
+    private void submit(ExecutorService pool, StageTask task) {
+        pool.execute(() -> {
+            try {
+                task.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                completion.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void recordMetrics(Path source) {
+        IoMetrics.bytesRead(source).increment(bytesRead.sum());
+        IoMetrics.rowsParsed(source).increment(parsedRows.sum());
+        IoMetrics.parseFailures(source).increment(parseFailures.sum());
+    }
+
+    private void logProgress(long start) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        long rows = importedRows.sum();
+        logger.info("import progress: {} rows, {} rows/s, queue depth read={} parse={} validate={}",
+                rows, rows * 1_000_000_000L / elapsedNanos, readQueue.depth(), parseQueue.depth(), validateQueue.depth());
+    }
+
+    private static int lastLineBreak(ByteBuffer buffer) {
+        for (int i = buffer.position() - 1; i >= 0; i--) {
+            if (buffer.get(i) == LINE_SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @FunctionalInterface
+    private interface StageTask {
+        void run() throws IOException, InterruptedException;
+    }
+
+    private static final class StageQueue<E> {
+
+        private final BlockingQueue<E> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicInteger maxDepth = new AtomicInteger();
+
+        private void put(E element) throws InterruptedException {
+            queue.put(element);
+            maxDepth.accumulateAndGet(queue.size(), Math::max);
+        }
+
+        private E take() throws InterruptedException {
+            return queue.take();
+        }
+
+        private int depth() {
+            return queue.size();
+        }
+
+        private int maxDepth() {
+            return maxDepth.get();
+        }
+    }
+
+}
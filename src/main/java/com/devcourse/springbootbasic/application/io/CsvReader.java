@@ -2,21 +2,250 @@ package com.devcourse.springbootbasic.application.io;
 
 import com.devcourse.springbootbasic.application.constant.ErrorMessage;
 import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.IoMetrics;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 @Component
 public class CsvReader {
 
+    private static final int LINE_BUFFER_SIZE = 128;
+
+    private final Map<String, CachedChannel> channels = new ConcurrentHashMap<>();
+    private final Map<String, MappedCsvFile> mappedFiles = new ConcurrentHashMap<>();
+    @Value("${settings.readMode:STREAM}")
+    private ReadMode readMode = ReadMode.STREAM;
+
     public List<String> readFile(String filepath) {
         try {
-            return Files.readAllLines(Path.of(filepath));
+            Path path = Path.of(filepath);
+            List<String> lines = Files.readAllLines(path);
+            IoMetrics.bytesRead(path).increment(Files.size(path));
+            return lines;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e.getCause());
+        }
+    }
+
+    public Stream<String> streamFile(String filepath) {
+        try {
+            Path path = Path.of(filepath);
+            long size = Files.size(path);
+            return Files.lines(path)
+                    .onClose(() -> IoMetrics.bytesRead(path).increment(size));
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public <T> Stream<T> streamRecords(String filepath, CsvRecordParser<T> parser) {
+        CountingParser<T> countingParser = new CountingParser<>(parser, IoMetrics.parseFailures(Path.of(filepath)));
+        return openRecords(filepath, countingParser)
+                .onClose(() -> countingParser.flush(Path.of(filepath)));
+    }
+
+    public <T> Stream<T> streamRecords(String filepath, CsvRecordParser<T> parser, RecordFilter<? super T> filter) {
+        Path path = Path.of(filepath);
+        CountingParser<T> countingParser = new CountingParser<>(parser, IoMetrics.parseFailures(path));
+        LongAdder bytes = new LongAdder();
+        LineSpliterator.LineMapper<T> mapper = (line, offset) -> {
+            bytes.add(line.remaining() + 1);
+            T record = countingParser.parse(line);
+            return filter.test(record, offset) ? record : null;
+        };
+        return openLines(filepath, mapper)
+                .onClose(() -> {
+                    IoMetrics.bytesRead(path).increment(bytes.sum());
+                    countingParser.flush(path);
+                });
+    }
+
+    public void setReadMode(ReadMode readMode) {
+        this.readMode = readMode;
+    }
+
+    public String readLine(String filepath, long offset) {
+        while (true) {
+            try {
+                return readLine(filepath, currentChannel(filepath), offset);
+            } catch (ClosedByInterruptException e) {
+                throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+            } catch (ClosedChannelException e) {
+                continue;
+            } catch (IOException e) {
+                throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        channels.values().forEach(CachedChannel::close);
+        channels.clear();
+        mappedFiles.values().forEach(MappedCsvFile::close);
+        mappedFiles.clear();
+    }
+
+    private String readLine(String filepath, FileChannel channel, long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(LINE_BUFFER_SIZE);
+        while (true) {
+            int read = channel.read(buffer, offset + buffer.position());
+            int lineEnd = indexOfLineEnd(buffer);
+            if (lineEnd >= 0 || read < 0) {
+                int length = lineEnd >= 0 ? lineEnd : buffer.position();
+                IoMetrics.bytesRead(Path.of(filepath)).increment(length);
+                return new String(buffer.array(), 0, length, StandardCharsets.UTF_8);
+            }
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+            }
+        }
+    }
+
+    private FileChannel currentChannel(String filepath) {
+        FileIdentity identity = FileIdentity.of(Path.of(filepath));
+        CachedChannel current = channels.get(filepath);
+        if (current != null && current.identity().equals(identity)) {
+            return current.channel();
+        }
+        return channels.compute(filepath, (path, cached) -> {
+            if (cached != null && cached.identity().equals(identity)) {
+                return cached;
+            }
+            if (cached != null) {
+                cached.close();
+            }
+            return new CachedChannel(openChannel(path), identity);
+        }).channel();
+    }
+
+    private MappedCsvFile currentMappedFile(String filepath) {
+        return mappedFiles.compute(filepath, (path, mappedFile) -> {
+            if (mappedFile != null && mappedFile.isCurrent()) {
+                return mappedFile;
+            }
+            if (mappedFile != null) {
+                mappedFile.close();
+            }
+            return new MappedCsvFile(Path.of(path));
+        });
+    }
+
+    private <T> Stream<T> openRecords(String filepath, CsvRecordParser<T> parser) {
+        if (readMode == ReadMode.MAPPED) {
+            MappedCsvFile mappedFile = currentMappedFile(filepath);
+            if (mappedFile.isMappable()) {
+                LongAdder bytes = new LongAdder();
+                return mappedFile.lines()
+                        .peek(line -> bytes.add(line.remaining() + 1))
+                        .map(parser::parse)
+                        .onClose(() -> IoMetrics.bytesRead(Path.of(filepath)).increment(bytes.sum()));
+            }
+        }
+        return streamFile(filepath)
+                .filter(line -> !line.isEmpty())
+                .map(parser::parse);
+    }
+
+    private <T> Stream<T> openLines(String filepath, LineSpliterator.LineMapper<T> mapper) {
+        if (readMode == ReadMode.MAPPED) {
+            MappedCsvFile mappedFile = currentMappedFile(filepath);
+            if (mappedFile.isMappable()) {
+                return mappedFile.lines(mapper);
+            }
+        }
+        FileChannel channel = openChannel(filepath);
+        return LineSpliterator.stream(channel, mapper)
+                .onClose(() -> closeChannel(channel));
+    }
+
+    private static int indexOfLineEnd(ByteBuffer buffer) {
+        byte[] bytes = buffer.array();
+        for (int i = 0; i < buffer.position(); i++) {
+            if (bytes[i] == '\n' || bytes[i] == '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static FileChannel openChannel(String filepath) {
+        try {
+            return FileChannel.open(Path.of(filepath), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private static void closeChannel(FileChannel channel) {
+        try {
+            channel.close();
         } catch (IOException e) {
-            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS.getMessageText(), e.getCause());
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private record CachedChannel(FileChannel channel, FileIdentity identity) {
+
+        private void close() {
+            closeChannel(channel);
+        }
+    }
+
+    private static final class CountingParser<T> implements CsvRecordParser<T> {
+
+        private final CsvRecordParser<T> parser;
+        private final Counter parseFailures;
+        private final LongAdder rows = new LongAdder();
+
+        private CountingParser(CsvRecordParser<T> parser, Counter parseFailures) {
+            this.parser = parser;
+            this.parseFailures = parseFailures;
+        }
+
+        @Override
+        public T parse(String line) {
+            try {
+                T record = parser.parse(line);
+                rows.increment();
+                return record;
+            } catch (RuntimeException e) {
+                parseFailures.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public T parse(ByteBuffer line) {
+            try {
+                T record = parser.parse(line);
+                rows.increment();
+                return record;
+            } catch (RuntimeException e) {
+                parseFailures.increment();
+                throw e;
+            }
+        }
+
+        private void flush(Path path) {
+            IoMetrics.rowsParsed(path).increment(rows.sum());
         }
     }
 
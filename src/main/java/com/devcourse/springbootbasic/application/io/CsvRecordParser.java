@@ -0,0 +1,13 @@
+package com.devcourse.springbootbasic.application.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+@FunctionalInterface
+public interface CsvRecordParser<T> {
+    T parse(String line);
+
+    default T parse(ByteBuffer line) {
+        return parse(StandardCharsets.UTF_8.decode(line).toString());
+    }
+}
@@ -1,46 +1,189 @@
 package com.devcourse.springbootbasic.application.io;
 
 import com.devcourse.springbootbasic.application.constant.ErrorMessage;
-import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
 import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Component
 public class CsvWriter {
 
+    private static final Logger logger = LoggerFactory.getLogger(CsvWriter.class);
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final String COMPACTION_SUFFIX = ".compact";
+    private static final int COMPACTION_BUFFER_SIZE = 256 * 1024;
+
+    private final Map<String, AppendChannel> channels = new ConcurrentHashMap<>();
+    @Value("${settings.durability:BATCH}")
+    private DurabilityMode durabilityMode = DurabilityMode.BATCH;
+    @Value("${settings.compactionThreshold:0.5}")
+    private double compactionThreshold = 0.5;
+
     public Voucher writeFile(String filepath, Voucher voucher) {
-        createFileIfNotExist(filepath);
-        write(filepath, voucher);
+        await(getChannel(filepath).writer().append(VoucherEntry.of(voucher)));
         return voucher;
     }
 
-    private void write(String filepath, Voucher voucher) {
-        File file = new File(filepath);
-        try (
-                BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(file, true))
-        ) {
-            bufferedWriter.write(VoucherConverter.convertVoucherToCsv(voucher));
-            bufferedWriter.newLine();
-            bufferedWriter.flush();
+    public List<Voucher> writeAll(String filepath, Collection<Voucher> vouchers) {
+        await(getChannel(filepath).writer().appendAll(entriesOf(vouchers)));
+        return List.copyOf(vouchers);
+    }
+
+    public void writeAll(Map<String, ? extends Collection<Voucher>> vouchersByPath) {
+        List<CompletableFuture<long[]>> pendingWrites = vouchersByPath.entrySet().stream()
+                .map(entry -> getChannel(entry.getKey()).writer().appendAll(entriesOf(entry.getValue())))
+                .toList();
+        pendingWrites.forEach(CsvWriter::await);
+    }
+
+    public void delete(String filepath, UUID voucherId) {
+        await(getChannel(filepath).writer().append(VoucherEntry.tombstone(voucherId)));
+    }
+
+    public void open(String filepath) {
+        getChannel(filepath);
+    }
+
+    public OptionalLong findOffset(String filepath, UUID voucherId) {
+        return getChannel(filepath).index().findOffset(voucherId);
+    }
+
+    public NavigableMap<UUID, Long> offsetsAfter(String filepath, UUID after) {
+        return getChannel(filepath).index().offsetsAfter(after);
+    }
+
+    public boolean isLive(String filepath, UUID voucherId, long offset) {
+        return getChannel(filepath).index().isLive(voucherId, offset);
+    }
+
+    public BatchStatistics getStatistics(String filepath) {
+        return getChannel(filepath).writer().getStatistics();
+    }
+
+    public void setDurabilityMode(DurabilityMode durabilityMode) {
+        this.durabilityMode = durabilityMode;
+    }
+
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @PreDestroy
+    public void close() {
+        channels.values().forEach(AppendChannel::close);
+        channels.clear();
+    }
+
+    private AppendChannel getChannel(String filepath) {
+        return channels.computeIfAbsent(filepath, path -> AppendChannel.open(Path.of(path), durabilityMode, compactionThreshold));
+    }
+
+    private static List<VoucherEntry> entriesOf(Collection<Voucher> vouchers) {
+        return vouchers.stream()
+                .map(VoucherEntry::of)
+                .toList();
+    }
+
+    private static void encode(VoucherEntry entry, ByteBuffer buffer) {
+        VoucherCodec.encode(entry, buffer);
+        buffer.put(LINE_SEPARATOR);
+    }
+
+    private static VoucherOffsetIndex compact(Path path, VoucherOffsetIndex index) {
+        Path compactedPath = path.resolveSibling(path.getFileName() + COMPACTION_SUFFIX);
+        try {
+            long before = Files.size(path);
+            try (
+                    FileChannel source = FileChannel.open(path, StandardOpenOption.READ);
+                    FileChannel target = FileChannel.open(compactedPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                    Stream<ByteBuffer> liveLines = LineSpliterator.stream(source, (line, offset) -> isLive(index, line, offset) ? line : null)
+            ) {
+                ByteBuffer buffer = ByteBuffer.allocate(COMPACTION_BUFFER_SIZE);
+                for (ByteBuffer line : (Iterable<ByteBuffer>) liveLines::iterator) {
+                    if (buffer.remaining() <= line.remaining()) {
+                        flush(buffer, target);
+                    }
+                    if (buffer.remaining() <= line.remaining()) {
+                        buffer = ByteBuffer.allocate(line.remaining() + 1);
+                    }
+                    buffer.put(line).put(LINE_SEPARATOR);
+                }
+                flush(buffer, target);
+                target.force(true);
+            }
+            index.close();
+            Files.deleteIfExists(VoucherOffsetIndex.indexPathOf(path));
+            Files.move(compactedPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("compacted {} from {} to {} bytes", path, before, Files.size(path));
+            return VoucherOffsetIndex.open(path);
         } catch (IOException e) {
-            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS.getMessageText(), e.getCause());
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
         }
     }
 
-    private void createFileIfNotExist(String filepath) {
-        File file = new File(filepath);
+    private static boolean isLive(VoucherOffsetIndex index, ByteBuffer line, long offset) {
         try {
-            if (!file.exists()) {
-                file.createNewFile();
+            return index.isLive(VoucherCodec.ENTRY_PARSER.parse(line).voucherId(), offset);
+        } catch (InvalidDataException e) {
+            return true;
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private record AppendChannel(GroupCommitWriter<VoucherEntry> writer, VoucherOffsetIndex index) {
+
+        private static AppendChannel open(Path path, DurabilityMode durabilityMode, double compactionThreshold) {
+            VoucherOffsetIndex index = VoucherOffsetIndex.open(path);
+            if (index.garbageRatio() >= compactionThreshold) {
+                index = compact(path, index);
             }
-        } catch (IOException e) {
-            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS.getMessageText(), e.getCause());
+            return new AppendChannel(new GroupCommitWriter<>(path, durabilityMode, CsvWriter::encode, index), index);
+        }
+
+        private void close() {
+            writer.close();
+            index.close();
+        }
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof InvalidDataException invalidDataException) {
+                throw invalidDataException;
+            }
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e.getCause());
         }
     }
 
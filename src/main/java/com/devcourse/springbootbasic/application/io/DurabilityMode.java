@@ -0,0 +1,7 @@
+package com.devcourse.springbootbasic.application.io;
+
+public enum DurabilityMode {
+    NONE,
+    BATCH,
+    RECORD
+}
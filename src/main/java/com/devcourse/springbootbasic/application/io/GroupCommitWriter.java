@@ -0,0 +1,288 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.IoMetrics;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class GroupCommitWriter<T> implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitWriter.class);
+    private static final int MAX_BATCH_SIZE = 4096;
+    private static final int INITIAL_BUFFER_CAPACITY = 64 * 1024;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final FileChannel channel;
+    private final DurabilityMode durabilityMode;
+    private final RecordEncoder<T> encoder;
+    private final CommitListener<T> listener;
+    private final BlockingQueue<PendingWrite<T>> queue;
+    private final Thread committer;
+    private final Counter bytesWritten;
+    private ByteBuffer buffer;
+    private long position;
+    private volatile boolean running;
+    private volatile long batchCount;
+    private volatile long recordCount;
+    private volatile long lastBatchLatencyNanos;
+    private volatile long maxBatchLatencyNanos;
+
+    public GroupCommitWriter(Path path, DurabilityMode durabilityMode, RecordEncoder<T> encoder) {
+        this(path, durabilityMode, encoder, (record, offset) -> {});
+    }
+
+    public GroupCommitWriter(Path path, DurabilityMode durabilityMode, RecordEncoder<T> encoder, CommitListener<T> listener) {
+        this.durabilityMode = durabilityMode;
+        this.encoder = encoder;
+        this.listener = listener;
+        this.queue = new LinkedBlockingQueue<>();
+        this.buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+        this.channel = openChannel(path);
+        this.bytesWritten = IoMetrics.bytesWritten(path);
+        this.position = currentSize();
+        this.running = true;
+        this.committer = new Thread(this::commitLoop, "group-commit-" + path.getFileName());
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    public CompletableFuture<Long> append(T record) {
+        return appendAll(List.of(record))
+                .thenApply(offsets -> offsets[0]);
+    }
+
+    public CompletableFuture<long[]> appendAll(Collection<? extends T> records) {
+        PendingWrite<T> pendingWrite = new PendingWrite<>(List.copyOf(records));
+        enqueue(pendingWrite);
+        return pendingWrite.future;
+    }
+
+    public BatchStatistics getStatistics() {
+        return new BatchStatistics(batchCount, recordCount, lastBatchLatencyNanos, maxBatchLatencyNanos);
+    }
+
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            committer.join();
+            failRemaining();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private void enqueue(PendingWrite<T> pendingWrite) {
+        if (!running) {
+            pendingWrite.future.completeExceptionally(
+                    new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS)
+            );
+            return;
+        }
+        queue.add(pendingWrite);
+        if (!running && queue.remove(pendingWrite)) {
+            pendingWrite.future.completeExceptionally(
+                    new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS)
+            );
+        }
+    }
+
+    private void failRemaining() {
+        PendingWrite<T> pendingWrite;
+        while ((pendingWrite = queue.poll()) != null) {
+            pendingWrite.future.completeExceptionally(
+                    new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS)
+            );
+        }
+    }
+
+    private void commitLoop() {
+        List<PendingWrite<T>> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<T> first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite<T>> batch) {
+        long start = System.nanoTime();
+        long committedPosition = position;
+        List<PendingWrite<T>> encoded = new ArrayList<>(batch.size());
+        try {
+            for (PendingWrite<T> pendingWrite : batch) {
+                if (encode(pendingWrite)) {
+                    encoded.add(pendingWrite);
+                }
+            }
+            flush();
+            if (durabilityMode == DurabilityMode.BATCH) {
+                channel.force(false);
+            }
+        } catch (IOException | RuntimeException e) {
+            rollback(committedPosition);
+            batch.forEach(pendingWrite -> pendingWrite.future.completeExceptionally(
+                    new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e)
+            ));
+            return;
+        }
+        recordLatency(encoded, System.nanoTime() - start);
+        bytesWritten.increment(position - committedPosition);
+        notifyListener(encoded);
+        encoded.forEach(pendingWrite -> pendingWrite.future.complete(pendingWrite.offsets));
+    }
+
+    private boolean encode(PendingWrite<T> pendingWrite) throws IOException {
+        long start = position + buffer.position();
+        try {
+            for (int i = 0; i < pendingWrite.records.size(); i++) {
+                pendingWrite.offsets[i] = encode(pendingWrite.records.get(i));
+                if (durabilityMode == DurabilityMode.RECORD) {
+                    flush();
+                    channel.force(false);
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            discardFrom(start);
+            pendingWrite.future.completeExceptionally(e instanceof InvalidDataException
+                    ? e
+                    : new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e));
+            return false;
+        }
+    }
+
+    private void discardFrom(long start) throws IOException {
+        if (start >= position) {
+            buffer.position((int) (start - position));
+            return;
+        }
+        buffer.clear();
+        channel.truncate(start);
+        position = start;
+    }
+
+    private void notifyListener(List<PendingWrite<T>> batch) {
+        try {
+            for (PendingWrite<T> pendingWrite : batch) {
+                for (int i = 0; i < pendingWrite.records.size(); i++) {
+                    listener.onCommit(pendingWrite.records.get(i), pendingWrite.offsets[i]);
+                }
+            }
+            listener.onBatchCommitted(position);
+        } catch (RuntimeException e) {
+            logger.error(ErrorMessage.INVALID_FILE_ACCESS.getMessageText(), e);
+        }
+    }
+
+    private long encode(T record) throws IOException {
+        while (true) {
+            int mark = buffer.position();
+            try {
+                encoder.encode(record, buffer);
+                return position + mark;
+            } catch (BufferOverflowException e) {
+                buffer.position(mark);
+                if (mark == 0) {
+                    buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                } else {
+                    flush();
+                }
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void rollback(long committedPosition) {
+        buffer.clear();
+        try {
+            channel.truncate(committedPosition);
+            position = committedPosition;
+        } catch (IOException e) {
+            position = currentSize();
+            logger.error(ErrorMessage.INVALID_FILE_ACCESS.getMessageText(), e);
+        }
+    }
+
+    private void recordLatency(List<PendingWrite<T>> batch, long latencyNanos) {
+        int size = batch.stream()
+                .mapToInt(pendingWrite -> pendingWrite.records.size())
+                .sum();
+        batchCount++;
+        recordCount += size;
+        lastBatchLatencyNanos = latencyNanos;
+        maxBatchLatencyNanos = Math.max(maxBatchLatencyNanos, latencyNanos);
+        logger.trace("group commit: {} records, {} us, durability {}", size, latencyNanos / 1_000, durabilityMode);
+    }
+
+    private long currentSize() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private static FileChannel openChannel(Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private static final class PendingWrite<T> {
+        private final List<T> records;
+        private final long[] offsets;
+        private final CompletableFuture<long[]> future;
+
+        private PendingWrite(List<T> records) {
+            this.records = records;
+            this.offsets = new long[records.size()];
+            this.future = new CompletableFuture<>();
+        }
+    }
+
+}
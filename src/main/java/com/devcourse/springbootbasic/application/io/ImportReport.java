@@ -0,0 +1,16 @@
+package com.devcourse.springbootbasic.application.io;
+
+public record ImportReport(
+        long importedRows,
+        long rejectedRows,
+        long elapsedNanos,
+        int maxReadQueueDepth,
+        int maxParseQueueDepth,
+        int maxValidateQueueDepth
+) {
+
+    public long rowsPerSecond() {
+        return elapsedNanos == 0 ? importedRows : importedRows * 1_000_000_000L / elapsedNanos;
+    }
+
+}
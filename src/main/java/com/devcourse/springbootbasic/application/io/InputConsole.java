@@ -1,13 +1,21 @@
 package com.devcourse.springbootbasic.application.io;
 
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
 import com.devcourse.springbootbasic.application.model.DiscountValue;
 import com.devcourse.springbootbasic.application.model.ListMenu;
 import com.devcourse.springbootbasic.application.model.Menu;
 import com.devcourse.springbootbasic.application.model.VoucherType;
 import org.beryx.textio.TextIO;
 import org.beryx.textio.TextIoFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+@Lazy
 @Component
 public class InputConsole {
 
@@ -34,6 +42,14 @@ public class InputConsole {
         return ListMenu.getListMenu(input);
     }
 
+    public boolean readNextPage() {
+        String input = textIO.newStringInputReader()
+                .withInputTrimming(true)
+                .withDefaultValue("n")
+                .read("Next Page (y/n): ");
+        return input.equalsIgnoreCase("y");
+    }
+
     public DiscountValue readDiscountValue(VoucherType voucherType) {
         String inputDiscountValue = textIO.newStringInputReader()
                 .withInputTrimming(true)
@@ -41,4 +57,41 @@ public class InputConsole {
         return new DiscountValue(voucherType, inputDiscountValue);
     }
 
+    public int readVoucherCount() {
+        String input = textIO.newStringInputReader()
+                .withInputTrimming(true)
+                .read("Voucher Count: ");
+        try {
+            int count = Integer.parseInt(input);
+            if (count <= 0) {
+                throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_COUNT);
+            }
+            return count;
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_COUNT, e);
+        }
+    }
+
+    public Path readFilePath() {
+        String input = textIO.newStringInputReader()
+                .withInputTrimming(true)
+                .read("File Path: ");
+        try {
+            return Path.of(input);
+        } catch (InvalidPathException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public UUID readVoucherId() {
+        String input = textIO.newStringInputReader()
+                .withInputTrimming(true)
+                .read("Voucher Id: ");
+        try {
+            return UUID.fromString(input);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_ID, e);
+        }
+    }
+
 }
@@ -0,0 +1,92 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class LineSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final FileChannel channel;
+    private final LineMapper<T> mapper;
+    private ByteBuffer buffer;
+    private long bufferStart;
+    private int position;
+    private boolean exhausted;
+
+    private LineSpliterator(FileChannel channel, ByteBuffer buffer, LineMapper<T> mapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        this.channel = channel;
+        this.buffer = buffer;
+        this.mapper = mapper;
+        this.exhausted = channel == null;
+    }
+
+    static <T> Stream<T> stream(ByteBuffer buffer, LineMapper<T> mapper) {
+        return StreamSupport.stream(new LineSpliterator<>(null, buffer, mapper), false);
+    }
+
+    static <T> Stream<T> stream(FileChannel channel, LineMapper<T> mapper) {
+        return StreamSupport.stream(new LineSpliterator<>(channel, ByteBuffer.allocate(READ_BUFFER_SIZE).flip(), mapper), false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            int limit = buffer.limit();
+            int end = position;
+            while (end < limit && buffer.get(end) != LINE_SEPARATOR) {
+                end++;
+            }
+            if (end == limit && !exhausted) {
+                fill();
+                continue;
+            }
+            if (position >= limit) {
+                return false;
+            }
+            int start = position;
+            position = end + 1;
+            int lineEnd = end > start && buffer.get(end - 1) == CARRIAGE_RETURN ? end - 1 : end;
+            if (lineEnd > start) {
+                T mapped = mapper.map(buffer.slice(start, lineEnd - start), bufferStart + start);
+                if (mapped != null) {
+                    action.accept(mapped);
+                    return true;
+                }
+            }
+        }
+    }
+
+    private void fill() {
+        try {
+            buffer.position(position).compact();
+            bufferStart += position;
+            position = 0;
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+            }
+            exhausted = channel.read(buffer, bufferStart + buffer.position()) < 0;
+            buffer.flip();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    @FunctionalInterface
+    interface LineMapper<T> {
+        T map(ByteBuffer line, long offset);
+    }
+
+}
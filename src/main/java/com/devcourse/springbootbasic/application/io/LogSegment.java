@@ -0,0 +1,243 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+final class LogSegment {
+
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = Integer.BYTES + Byte.BYTES + BinaryVoucherFile.RECORD_SIZE;
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final int MAGIC = 0x56534547;
+    private static final short VERSION = 1;
+    private static final String FILE_PREFIX = "segment-";
+    private static final String FILE_SUFFIX = ".log";
+
+    private final long id;
+    private final long coveredFrom;
+    private final FileChannel channel;
+    private volatile Path path;
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicLong liveRecords = new AtomicLong();
+    private final AtomicLong totalRecords = new AtomicLong();
+    private volatile long size;
+
+    private LogSegment(long id, long coveredFrom, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.coveredFrom = coveredFrom;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    static LogSegment create(Path path, long id, long coveredFrom) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putShort(VERSION)
+                    .putShort((short) 0)
+                    .putLong(coveredFrom)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            return new LogSegment(id, coveredFrom, path, channel, HEADER_SIZE);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    static LogSegment open(Path path) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = channel.read(header, header.position());
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getShort() != VERSION) {
+                channel.close();
+                throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+            }
+            header.getShort();
+            return new LogSegment(idOf(path), header.getLong(), path, channel, channel.size());
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    static Path pathOf(Path directory, long id) {
+        return directory.resolve(String.format("%s%016d%s", FILE_PREFIX, id, FILE_SUFFIX));
+    }
+
+    static long idOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT, e);
+        }
+    }
+
+    static void encode(byte type, ByteBuffer payload, ByteBuffer target) {
+        int start = target.position();
+        target.putInt(0).put(type).put(payload);
+        while (target.position() - start < RECORD_SIZE) {
+            target.put((byte) 0);
+        }
+        target.putInt(start, checksum(target, start));
+    }
+
+    static boolean isValid(ByteBuffer records, int start) {
+        return records.getInt(start) == checksum(records, start)
+                && (records.get(start + Integer.BYTES) == PUT || records.get(start + Integer.BYTES) == DELETE);
+    }
+
+    long append(ByteBuffer records, boolean force) {
+        long position = size;
+        try {
+            while (records.hasRemaining()) {
+                channel.write(records, position + records.position());
+            }
+            if (force) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        size = position + records.limit();
+        return position;
+    }
+
+    void read(ByteBuffer target, long position) {
+        try {
+            while (target.hasRemaining()) {
+                if (channel.read(target, position + target.position()) < 0) {
+                    throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+                }
+            }
+            target.flip();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    void renameTo(Path target) {
+        try {
+            Files.move(path, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            path = target;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    void truncate(long size) {
+        try {
+            channel.truncate(size);
+            channel.force(true);
+            this.size = size;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    void force() {
+        try {
+            channel.force(true);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    boolean acquire() {
+        int current;
+        do {
+            current = references.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+            }
+        }
+    }
+
+    void delete() {
+        release();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    void recordAdded(boolean live) {
+        totalRecords.incrementAndGet();
+        if (live) {
+            liveRecords.incrementAndGet();
+        }
+    }
+
+    void recordObsoleted() {
+        liveRecords.decrementAndGet();
+    }
+
+    long id() {
+        return id;
+    }
+
+    long coveredFrom() {
+        return coveredFrom;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long liveRecords() {
+        return liveRecords.get();
+    }
+
+    long totalRecords() {
+        return totalRecords.get();
+    }
+
+    private static int checksum(ByteBuffer records, int start) {
+        CRC32C crc = new CRC32C();
+        crc.update(records.slice(start + Integer.BYTES, RECORD_SIZE - Integer.BYTES));
+        return (int) crc.getValue();
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+public class MappedCsvFile implements Closeable {
+
+    private final Path path;
+    private final FileIdentity identity;
+    private final FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long mappedSize;
+
+    public MappedCsvFile(Path path) {
+        try {
+            this.path = path;
+            this.identity = FileIdentity.of(path);
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.mappedSize = -1;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public Stream<ByteBuffer> lines() {
+        return lines((line, offset) -> line);
+    }
+
+    <T> Stream<T> lines(LineSpliterator.LineMapper<T> mapper) {
+        return LineSpliterator.stream(map().duplicate(), mapper);
+    }
+
+    public boolean isMappable() {
+        try {
+            return channel.size() <= Integer.MAX_VALUE;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public boolean isCurrent() {
+        return Files.exists(path) && identity.equals(FileIdentity.of(path));
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private synchronized MappedByteBuffer map() {
+        try {
+            long size = channel.size();
+            if (size != mappedSize) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                mappedSize = size;
+            }
+            return mapped;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+}
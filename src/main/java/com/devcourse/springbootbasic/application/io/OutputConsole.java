@@ -7,12 +7,15 @@ import com.devcourse.springbootbasic.application.model.VoucherType;
 import org.beryx.textio.TextIO;
 import org.beryx.textio.TextIoFactory;
 import org.beryx.textio.TextTerminal;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
+@Lazy
 @Component
 public class OutputConsole {
 
@@ -64,10 +67,27 @@ public class OutputConsole {
         printMessage(OutputMessage.END_GAME_PROMPT.getMessageText());
     }
 
+    public void printVoucher(String message, String voucher) {
+        printMessage(message);
+        printMessage(voucher);
+        textTerminal.println();
+    }
+
     public void printList(String message, List<String> list) {
         printMessage(message);
         list.forEach(this::printMessage);
         textTerminal.println();
     }
 
+    public void printPage(List<String> list) {
+        list.forEach(this::printMessage);
+        textTerminal.println();
+    }
+
+    public void printList(String message, Stream<String> stream) {
+        printMessage(message);
+        stream.forEachOrdered(this::printMessage);
+        textTerminal.println();
+    }
+
 }
@@ -0,0 +1,6 @@
+package com.devcourse.springbootbasic.application.io;
+
+public enum ReadMode {
+    STREAM,
+    MAPPED
+}
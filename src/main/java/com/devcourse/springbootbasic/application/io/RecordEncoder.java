@@ -0,0 +1,8 @@
+package com.devcourse.springbootbasic.application.io;
+
+import java.nio.ByteBuffer;
+
+@FunctionalInterface
+public interface RecordEncoder<T> {
+    void encode(T record, ByteBuffer buffer);
+}
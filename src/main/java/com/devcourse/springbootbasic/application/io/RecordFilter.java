@@ -0,0 +1,6 @@
+package com.devcourse.springbootbasic.application.io;
+
+@FunctionalInterface
+public interface RecordFilter<T> {
+    boolean test(T record, long offset);
+}
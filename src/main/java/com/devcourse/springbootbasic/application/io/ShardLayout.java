@@ -0,0 +1,119 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class ShardLayout {
+
+    private static final String SHARD_FORMAT = "%s-shard-%d-of-%d%s";
+
+    private final Path basePath;
+    private final int shardCount;
+    private final List<Path> paths;
+
+    public ShardLayout(Path basePath, int shardCount) {
+        if (shardCount <= 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_SHARD_COUNT);
+        }
+        this.basePath = basePath;
+        this.shardCount = shardCount;
+        this.paths = IntStream.range(0, shardCount)
+                .mapToObj(this::shardPath)
+                .toList();
+    }
+
+    public static ShardLayout of(String basePath, int shardCount) {
+        return new ShardLayout(Path.of(basePath), shardCount);
+    }
+
+    public Path basePath() {
+        return basePath;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(UUID voucherId) {
+        long bits = voucherId.getMostSignificantBits() ^ voucherId.getLeastSignificantBits();
+        return Math.floorMod((int) (bits ^ bits >>> 32), shardCount);
+    }
+
+    public Path pathOf(int shard) {
+        return paths.get(shard);
+    }
+
+    public Path pathOf(UUID voucherId) {
+        return pathOf(shardOf(voucherId));
+    }
+
+    public List<Path> paths() {
+        return paths;
+    }
+
+    public SortedSet<Integer> existingShardCounts() {
+        SortedSet<Integer> shardCounts = new TreeSet<>();
+        try {
+            if (Files.exists(basePath) && Files.size(basePath) > 0) {
+                shardCounts.add(1);
+            }
+            Path directory = basePath.toAbsolutePath().getParent();
+            if (!Files.isDirectory(directory)) {
+                return shardCounts;
+            }
+            Pattern pattern = shardPattern();
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(path -> pattern.matcher(path.getFileName().toString()))
+                        .filter(Matcher::matches)
+                        .forEach(matcher -> shardCounts.add(Integer.parseInt(matcher.group(1))));
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        return shardCounts;
+    }
+
+    public void validate() {
+        SortedSet<Integer> shardCounts = existingShardCounts();
+        shardCounts.remove(shardCount);
+        if (!shardCounts.isEmpty()) {
+            throw new InvalidDataException(ErrorMessage.SHARD_LAYOUT_MISMATCH);
+        }
+    }
+
+    private Path shardPath(int shard) {
+        if (shardCount == 1) {
+            return basePath;
+        }
+        return basePath.resolveSibling(String.format(SHARD_FORMAT, baseName(), shard, shardCount, extension()));
+    }
+
+    private Pattern shardPattern() {
+        return Pattern.compile(Pattern.quote(baseName()) + "-shard-\\d+-of-(\\d+)" + Pattern.quote(extension()));
+    }
+
+    private String baseName() {
+        String fileName = basePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return extension < 0 ? fileName : fileName.substring(0, extension);
+    }
+
+    private String extension() {
+        String fileName = basePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return extension < 0 ? "" : fileName.substring(extension);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+
+import java.util.UUID;
+
+public record VoucherEntry(
+        UUID voucherId,
+        Voucher voucher
+) {
+
+    public static VoucherEntry of(Voucher voucher) {
+        return new VoucherEntry(voucher.getVoucherId(), voucher);
+    }
+
+    public static VoucherEntry tombstone(UUID voucherId) {
+        return new VoucherEntry(voucherId, null);
+    }
+
+    public boolean isTombstone() {
+        return voucher == null;
+    }
+
+}
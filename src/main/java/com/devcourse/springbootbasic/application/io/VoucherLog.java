@@ -0,0 +1,488 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class VoucherLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoucherLog.class);
+    private static final int BATCH_RECORDS = 4096;
+    private static final int PAYLOAD_OFFSET = Integer.BYTES + Byte.BYTES;
+    private static final String COMPACTION_SUFFIX = ".compact";
+    private static final long SWAP_TIMEOUT_MILLIS = 1_000;
+    private static final long SWAP_RETRY_MILLIS = 10;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final DurabilityMode durabilityMode;
+    private final Map<UUID, Location> index = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final Object compactionLock = new Object();
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private volatile List<LogSegment> segments = List.of();
+    private volatile LogSegment active;
+    private volatile boolean closed;
+
+    private VoucherLog(Path directory, long segmentSize, DurabilityMode durabilityMode) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.durabilityMode = durabilityMode;
+    }
+
+    public static VoucherLog open(Path directory, long segmentSize, DurabilityMode durabilityMode) {
+        VoucherLog voucherLog = new VoucherLog(directory, segmentSize, durabilityMode);
+        voucherLog.recover();
+        return voucherLog;
+    }
+
+    public Voucher put(Voucher voucher) {
+        putAll(List.of(voucher));
+        return voucher;
+    }
+
+    public List<Voucher> putAll(Collection<Voucher> vouchers) {
+        List<Voucher> records = List.copyOf(vouchers);
+        List<UUID> voucherIds = records.stream()
+                .map(Voucher::getVoucherId)
+                .toList();
+        synchronized (writeLock) {
+            append(LogSegment.PUT, voucherIds, records);
+        }
+        return records;
+    }
+
+    public boolean replace(Voucher voucher) {
+        synchronized (writeLock) {
+            if (!index.containsKey(voucher.getVoucherId())) {
+                return false;
+            }
+            append(LogSegment.PUT, List.of(voucher.getVoucherId()), List.of(voucher));
+            return true;
+        }
+    }
+
+    public boolean delete(UUID voucherId) {
+        synchronized (writeLock) {
+            if (!index.containsKey(voucherId)) {
+                return false;
+            }
+            append(LogSegment.DELETE, List.of(voucherId), null);
+            return true;
+        }
+    }
+
+    public Optional<Voucher> get(UUID voucherId) {
+        while (true) {
+            Location location = index.get(voucherId);
+            if (location == null) {
+                return Optional.empty();
+            }
+            if (!location.segment().acquire()) {
+                continue;
+            }
+            try {
+                ByteBuffer record = ByteBuffer.allocate(LogSegment.RECORD_SIZE);
+                location.segment().read(record, location.offset());
+                return Optional.of(decode(record, 0));
+            } finally {
+                location.segment().release();
+            }
+        }
+    }
+
+    public boolean contains(UUID voucherId) {
+        return index.containsKey(voucherId);
+    }
+
+    public Stream<Voucher> stream() {
+        List<LogSegment> snapshot = new ArrayList<>();
+        List<Long> limits = new ArrayList<>();
+        synchronized (writeLock) {
+            for (LogSegment segment : segments) {
+                if (segment.acquire()) {
+                    snapshot.add(segment);
+                    limits.add(segment.size());
+                }
+            }
+            openStreams.incrementAndGet();
+        }
+        return StreamSupport.stream(new LiveRecordSpliterator(snapshot, limits), false)
+                .onClose(() -> {
+                    snapshot.forEach(LogSegment::release);
+                    openStreams.decrementAndGet();
+                });
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public double garbageRatio() {
+        long live = 0;
+        long total = 0;
+        for (LogSegment segment : segments) {
+            if (segment != active) {
+                live += segment.liveRecords();
+                total += segment.totalRecords();
+            }
+        }
+        return total == 0 ? 0 : 1 - (double) live / total;
+    }
+
+    public boolean compact() {
+        synchronized (compactionLock) {
+            List<LogSegment> sealed;
+            synchronized (writeLock) {
+                sealed = segments.stream()
+                        .filter(segment -> segment != active)
+                        .toList();
+            }
+            if (sealed.isEmpty()) {
+                return false;
+            }
+            LogSegment target = sealed.get(sealed.size() - 1);
+            long coveredFrom = sealed.stream()
+                    .mapToLong(LogSegment::coveredFrom)
+                    .min()
+                    .orElse(target.id());
+            Path compactionPath = directory.resolve(target.path().getFileName() + COMPACTION_SUFFIX);
+            LogSegment output = LogSegment.create(compactionPath, target.id(), coveredFrom);
+            List<Moved> moved = copyLiveRecords(sealed, output);
+            output.force();
+            if (!swap(sealed, target, output, moved)) {
+                logger.info("compaction of {} postponed: streams are still open", target.path().getFileName());
+                output.delete();
+                return false;
+            }
+            for (LogSegment segment : sealed) {
+                if (segment == target) {
+                    segment.release();
+                } else {
+                    segment.delete();
+                }
+            }
+            logger.info("compacted {} segments into {}: {} live records", sealed.size(), output.path().getFileName(), moved.size());
+            return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (compactionLock) {
+            synchronized (writeLock) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                segments.forEach(segment -> {
+                    segment.force();
+                    segment.release();
+                });
+                segments = List.of();
+                index.clear();
+            }
+        }
+    }
+
+    private boolean swap(List<LogSegment> sealed, LogSegment target, LogSegment output, List<Moved> moved) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SWAP_TIMEOUT_MILLIS);
+        while (true) {
+            synchronized (writeLock) {
+                if (openStreams.get() == 0) {
+                    output.renameTo(target.path());
+                    List<LogSegment> updated = new ArrayList<>();
+                    updated.add(output);
+                    segments.stream()
+                            .filter(segment -> !sealed.contains(segment))
+                            .forEach(updated::add);
+                    segments = List.copyOf(updated);
+                    for (Moved record : moved) {
+                        output.recordAdded(true);
+                        if (!index.replace(record.voucherId(), record.from(), new Location(output, record.offset()))) {
+                            output.recordObsoleted();
+                        }
+                    }
+                    return true;
+                }
+            }
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(SWAP_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private void append(byte type, List<UUID> voucherIds, List<Voucher> vouchers) {
+        if (closed) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS);
+        }
+        int count = voucherIds.size();
+        ByteBuffer buffer = ByteBuffer.allocate(LogSegment.RECORD_SIZE * Math.min(count, BATCH_RECORDS));
+        ByteBuffer payload = ByteBuffer.allocate(BinaryVoucherFile.RECORD_SIZE);
+        for (int from = 0; from < count; from += BATCH_RECORDS) {
+            int to = Math.min(count, from + BATCH_RECORDS);
+            if (active.size() >= segmentSize) {
+                rollover();
+            }
+            buffer.clear();
+            for (int i = from; i < to; i++) {
+                payload.clear();
+                if (type == LogSegment.PUT) {
+                    BinaryVoucherFile.encode(vouchers.get(i), payload);
+                } else {
+                    payload.putLong(voucherIds.get(i).getMostSignificantBits())
+                            .putLong(voucherIds.get(i).getLeastSignificantBits());
+                }
+                LogSegment.encode(type, payload.flip(), buffer);
+            }
+            boolean force = durabilityMode != DurabilityMode.NONE && to == count;
+            long position = active.append(buffer.flip(), force);
+            for (int i = from; i < to; i++) {
+                apply(type, voucherIds.get(i), new Location(active, position + (long) (i - from) * LogSegment.RECORD_SIZE));
+            }
+        }
+    }
+
+    private void apply(byte type, UUID voucherId, Location location) {
+        Location previous = type == LogSegment.PUT
+                ? index.put(voucherId, location)
+                : index.remove(voucherId);
+        location.segment().recordAdded(type == LogSegment.PUT);
+        if (previous != null) {
+            previous.segment().recordObsoleted();
+        }
+    }
+
+    private void rollover() {
+        active.force();
+        long id = active.id() + 1;
+        LogSegment next = LogSegment.create(LogSegment.pathOf(directory, id), id, id);
+        List<LogSegment> updated = new ArrayList<>(segments);
+        updated.add(next);
+        segments = List.copyOf(updated);
+        active = next;
+    }
+
+    private List<Moved> copyLiveRecords(List<LogSegment> sealed, LogSegment output) {
+        List<Moved> moved = new ArrayList<>();
+        ByteBuffer outputBuffer = ByteBuffer.allocate(LogSegment.RECORD_SIZE * BATCH_RECORDS);
+        for (LogSegment segment : sealed) {
+            forEachRecord(segment, segment.size(), (records, start, offset) -> {
+                if (records.get(start + Integer.BYTES) != LogSegment.PUT) {
+                    return;
+                }
+                UUID voucherId = voucherIdAt(records, start);
+                Location location = index.get(voucherId);
+                if (location == null || location.segment() != segment || location.offset() != offset) {
+                    return;
+                }
+                if (!outputBuffer.hasRemaining()) {
+                    output.append(outputBuffer.flip(), false);
+                    outputBuffer.clear();
+                }
+                moved.add(new Moved(voucherId, location, output.size() + outputBuffer.position()));
+                outputBuffer.put(records.slice(start, LogSegment.RECORD_SIZE));
+            });
+        }
+        if (outputBuffer.position() > 0) {
+            output.append(outputBuffer.flip(), false);
+        }
+        return moved;
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            List<LogSegment> opened = new ArrayList<>();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path path : files.sorted().toList()) {
+                    if (path.getFileName().toString().endsWith(COMPACTION_SUFFIX)) {
+                        Files.delete(path);
+                    } else if (LogSegment.isSegmentFile(path) && Files.size(path) < LogSegment.HEADER_SIZE) {
+                        logger.warn("removing incomplete segment {}", path);
+                        Files.delete(path);
+                    } else if (LogSegment.isSegmentFile(path)) {
+                        opened.add(LogSegment.open(path));
+                    }
+                }
+            }
+            opened.sort(Comparator.comparingLong(LogSegment::id));
+            List<LogSegment> recovered = removeCoveredSegments(opened);
+            for (int i = 0; i < recovered.size(); i++) {
+                replay(recovered.get(i), i == recovered.size() - 1);
+            }
+            segments = List.copyOf(recovered);
+            if (recovered.isEmpty()) {
+                active = LogSegment.create(LogSegment.pathOf(directory, 1), 1, 1);
+                segments = List.of(active);
+            } else {
+                active = recovered.get(recovered.size() - 1);
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private List<LogSegment> removeCoveredSegments(List<LogSegment> opened) {
+        List<LogSegment> recovered = new ArrayList<>();
+        long coveredFrom = Long.MAX_VALUE;
+        for (int i = opened.size() - 1; i >= 0; i--) {
+            LogSegment segment = opened.get(i);
+            if (segment.id() >= coveredFrom) {
+                logger.warn("removing segment {} replaced by compaction", segment.path());
+                segment.delete();
+                continue;
+            }
+            coveredFrom = Math.min(coveredFrom, segment.coveredFrom());
+            recovered.add(0, segment);
+        }
+        return recovered;
+    }
+
+    private void replay(LogSegment segment, boolean last) {
+        long validSize = forEachRecord(segment, segment.size(), (records, start, offset) -> {
+            UUID voucherId = voucherIdAt(records, start);
+            apply(records.get(start + Integer.BYTES), voucherId, new Location(segment, offset));
+        });
+        if (validSize == segment.size()) {
+            return;
+        }
+        if (!last) {
+            throw new InvalidDataException(ErrorMessage.INVALID_BINARY_FORMAT);
+        }
+        logger.warn("truncating torn tail of {} from {} to {} bytes", segment.path(), segment.size(), validSize);
+        segment.truncate(validSize);
+    }
+
+    private long forEachRecord(LogSegment segment, long limit, RecordVisitor visitor) {
+        ByteBuffer buffer = ByteBuffer.allocate(LogSegment.RECORD_SIZE * BATCH_RECORDS);
+        long position = LogSegment.HEADER_SIZE;
+        while (position < limit) {
+            long available = limit - position;
+            int length = (int) Math.min(buffer.capacity(), available - available % LogSegment.RECORD_SIZE);
+            if (length == 0) {
+                return position;
+            }
+            buffer.clear().limit(length);
+            segment.read(buffer, position);
+            for (int start = 0; start < length; start += LogSegment.RECORD_SIZE) {
+                if (!LogSegment.isValid(buffer, start)) {
+                    return position + start;
+                }
+                visitor.visit(buffer, start, position + start);
+            }
+            position += length;
+        }
+        return position;
+    }
+
+    private static UUID voucherIdAt(ByteBuffer records, int start) {
+        return new UUID(records.getLong(start + PAYLOAD_OFFSET), records.getLong(start + PAYLOAD_OFFSET + Long.BYTES));
+    }
+
+    private static Voucher decode(ByteBuffer records, int start) {
+        return BinaryVoucherFile.decode(records.slice(start + PAYLOAD_OFFSET, BinaryVoucherFile.RECORD_SIZE));
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(ByteBuffer records, int start, long offset);
+    }
+
+    private record Location(LogSegment segment, long offset) {
+    }
+
+    private record Moved(UUID voucherId, Location from, long offset) {
+    }
+
+    private final class LiveRecordSpliterator extends Spliterators.AbstractSpliterator<Voucher> {
+
+        private final List<LogSegment> snapshot;
+        private final List<Long> limits;
+        private final ByteBuffer buffer = ByteBuffer.allocate(LogSegment.RECORD_SIZE * BATCH_RECORDS).limit(0);
+        private int segmentIndex;
+        private long position = LogSegment.HEADER_SIZE;
+        private long bufferOffset;
+
+        private LiveRecordSpliterator(List<LogSegment> snapshot, List<Long> limits) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.snapshot = snapshot;
+            this.limits = limits;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Voucher> action) {
+            while (true) {
+                while (buffer.hasRemaining()) {
+                    int start = buffer.position();
+                    long offset = bufferOffset + start;
+                    buffer.position(start + LogSegment.RECORD_SIZE);
+                    if (buffer.get(start + Integer.BYTES) != LogSegment.PUT) {
+                        continue;
+                    }
+                    LogSegment segment = snapshot.get(segmentIndex);
+                    Location location = index.get(voucherIdAt(buffer, start));
+                    if (location != null && location.segment() == segment && location.offset() == offset) {
+                        action.accept(decode(buffer, start));
+                        return true;
+                    }
+                }
+                if (!fill()) {
+                    return false;
+                }
+            }
+        }
+
+        private boolean fill() {
+            while (segmentIndex < snapshot.size()) {
+                long limit = limits.get(segmentIndex);
+                long available = limit - position;
+                int length = (int) Math.min(buffer.capacity(), available - available % LogSegment.RECORD_SIZE);
+                if (length > 0) {
+                    buffer.clear().limit(length);
+                    snapshot.get(segmentIndex).read(buffer, position);
+                    bufferOffset = position;
+                    position += length;
+                    return true;
+                }
+                segmentIndex++;
+                position = LogSegment.HEADER_SIZE;
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,410 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+public class VoucherOffsetIndex implements CommitListener<VoucherEntry>, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoucherOffsetIndex.class);
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int HEADER_SIZE = Long.BYTES * 2;
+    private static final int FINGERPRINT_SIZE = 4096;
+    private static final int ENTRY_SIZE = Long.BYTES * 3;
+    private static final int UUID_LENGTH = 36;
+    private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+    private static final int LOAD_BUFFER_SIZE = ENTRY_SIZE * 65536;
+    private static final int PREVIOUS_LINE_SIZE = 1024;
+    private static final long CHECKPOINT_INTERVAL = 4 * 1024 * 1024;
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final Path csvPath;
+    private final ConcurrentNavigableMap<UUID, Long> offsets;
+    private final AtomicInteger size;
+    private final FileChannel channel;
+    private ByteBuffer pending;
+    private long checkpointPosition;
+    private long committedPosition;
+    private long lineCount;
+    private boolean checksumRequired;
+    private long corruptedOffset;
+
+    private VoucherOffsetIndex(Path csvPath, FileChannel channel) {
+        this.csvPath = csvPath;
+        this.channel = channel;
+        this.offsets = new ConcurrentSkipListMap<>();
+        this.size = new AtomicInteger();
+        this.pending = ByteBuffer.allocate(ENTRY_SIZE * 256);
+    }
+
+    public static VoucherOffsetIndex open(Path csvPath) {
+        try {
+            if (!Files.exists(csvPath)) {
+                Files.createFile(csvPath);
+            }
+            FileChannel channel = FileChannel.open(indexPathOf(csvPath),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            VoucherOffsetIndex index = new VoucherOffsetIndex(csvPath, channel);
+            try {
+                index.load();
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            return index;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    public static Path indexPathOf(Path csvPath) {
+        return csvPath.resolveSibling(csvPath.getFileName() + INDEX_SUFFIX);
+    }
+
+    public OptionalLong findOffset(UUID voucherId) {
+        Long offset = offsets.get(voucherId);
+        return offset == null ? OptionalLong.empty() : OptionalLong.of(offset);
+    }
+
+    public boolean isLive(UUID voucherId, long offset) {
+        Long liveOffset = offsets.get(voucherId);
+        return liveOffset != null && liveOffset == offset;
+    }
+
+    public NavigableMap<UUID, Long> offsetsAfter(UUID after) {
+        return Collections.unmodifiableNavigableMap(after == null ? offsets : offsets.tailMap(after, false));
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public double garbageRatio() {
+        return lineCount == 0 ? 0 : 1 - (double) size.get() / lineCount;
+    }
+
+    public long getCheckpointPosition() {
+        return checkpointPosition;
+    }
+
+    @Override
+    public void onCommit(VoucherEntry entry, long offset) {
+        if (entry.isTombstone()) {
+            remove(entry.voucherId(), offset);
+        } else {
+            put(entry.voucherId(), offset);
+        }
+    }
+
+    @Override
+    public void onBatchCommitted(long committedPosition) {
+        try {
+            writePending();
+            this.committedPosition = committedPosition;
+            if (committedPosition - checkpointPosition >= CHECKPOINT_INTERVAL) {
+                checkpoint(committedPosition);
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (committedPosition > checkpointPosition) {
+                checkpoint(committedPosition);
+            }
+            channel.close();
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private void load() throws IOException {
+        long csvLength = Files.size(csvPath);
+        long indexLength = channel.size();
+        if (indexLength < HEADER_SIZE || (indexLength - HEADER_SIZE) % ENTRY_SIZE != 0) {
+            rebuild();
+            return;
+        }
+        ByteBuffer header = readHeader();
+        long covered = header.getLong();
+        if (covered > csvLength) {
+            rebuild();
+            return;
+        }
+        if (header.getLong() != fingerprintOf(covered)) {
+            logger.warn("offset index of {} does not match its first {} bytes, rebuilding", csvPath, covered);
+            rebuild();
+            return;
+        }
+        long loaded = loadEntries(indexLength, covered);
+        if (loaded < 0) {
+            rebuild();
+            return;
+        }
+        channel.truncate(HEADER_SIZE + loaded * ENTRY_SIZE);
+        recoverTail(covered, csvLength);
+    }
+
+    private void rebuild() throws IOException {
+        offsets.clear();
+        size.set(0);
+        lineCount = 0;
+        channel.truncate(0);
+        writeCoveredLength(0);
+        recoverTail(0, Files.size(csvPath));
+    }
+
+    private void recoverTail(long from, long csvLength) throws IOException {
+        long validEnd = scan(from);
+        try (FileChannel csvChannel = FileChannel.open(csvPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (validEnd < csvLength) {
+                logger.warn("truncating torn tail of {} from {} to {} bytes", csvPath, csvLength, validEnd);
+                csvChannel.truncate(validEnd);
+            }
+            if (validEnd != csvLength) {
+                csvChannel.force(false);
+            }
+        }
+        writePending();
+        committedPosition = validEnd;
+        checkpoint(validEnd);
+    }
+
+    private void checkpoint(long position) throws IOException {
+        channel.force(false);
+        writeCoveredLength(position);
+        checkpointPosition = position;
+    }
+
+    private void writePending() throws IOException {
+        try {
+            pending.flip();
+            long end = channel.size();
+            while (pending.hasRemaining()) {
+                end += channel.write(pending, end);
+            }
+        } finally {
+            pending.clear();
+        }
+    }
+
+    private long loadEntries(long indexLength, long covered) throws IOException {
+        ByteBuffer entries = ByteBuffer.allocate(LOAD_BUFFER_SIZE);
+        long position = HEADER_SIZE;
+        long loaded = 0;
+        while (position < indexLength) {
+            entries.clear().limit((int) Math.min(LOAD_BUFFER_SIZE, indexLength - position));
+            while (entries.hasRemaining()) {
+                if (channel.read(entries, position + entries.position()) < 0) {
+                    return -1;
+                }
+            }
+            entries.flip();
+            position += entries.limit();
+            while (entries.hasRemaining()) {
+                UUID voucherId = new UUID(entries.getLong(), entries.getLong());
+                long entryOffset = entries.getLong();
+                long offset = entryOffset < 0 ? -entryOffset - 1 : entryOffset;
+                if (offset >= covered) {
+                    return loaded;
+                }
+                if (entryOffset < 0) {
+                    removeOffset(voucherId);
+                } else {
+                    putOffset(voucherId, offset);
+                }
+                lineCount++;
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private long scan(long from) throws IOException {
+        try (FileChannel csvChannel = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+            checksumRequired = from > 0 && previousLineHasChecksum(csvChannel, from);
+            corruptedOffset = -1;
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            long bufferStart = from;
+            while (csvChannel.read(buffer, bufferStart + buffer.position()) >= 0) {
+                if (buffer.hasRemaining()) {
+                    continue;
+                }
+                buffer.flip();
+                int lineStart = indexLines(buffer, bufferStart);
+                if (lineStart == 0) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer);
+                    continue;
+                }
+                buffer.position(lineStart).compact();
+                bufferStart += lineStart;
+            }
+            buffer.flip();
+            int lineStart = indexLines(buffer, bufferStart);
+            return corruptedOffset >= 0 ? corruptedOffset : bufferStart + lineStart;
+        }
+    }
+
+    private static boolean previousLineHasChecksum(FileChannel csvChannel, long lineEnd) throws IOException {
+        int length = (int) Math.min(lineEnd, PREVIOUS_LINE_SIZE);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (csvChannel.read(buffer, lineEnd - length + buffer.position()) < 0) {
+                break;
+            }
+        }
+        int end = length - 1;
+        if (end >= 0 && buffer.get(end) == LINE_SEPARATOR) {
+            end--;
+        }
+        if (end >= 0 && buffer.get(end) == CARRIAGE_RETURN) {
+            end--;
+        }
+        int start = end;
+        while (start >= 0 && buffer.get(start) != LINE_SEPARATOR) {
+            start--;
+        }
+        return VoucherCodec.hasChecksum(buffer.slice(start + 1, end - start));
+    }
+
+    private int indexLines(ByteBuffer buffer, long bufferStart) {
+        int lineStart = 0;
+        for (int i = 0; i < buffer.limit(); i++) {
+            if (buffer.get(i) != LINE_SEPARATOR) {
+                continue;
+            }
+            int lineEnd = i > lineStart && buffer.get(i - 1) == CARRIAGE_RETURN ? i - 1 : i;
+            ByteBuffer line = buffer.slice(lineStart, lineEnd - lineStart);
+            if (!line.hasRemaining()) {
+                lineStart = i + 1;
+                continue;
+            }
+            if (!VoucherCodec.isIntact(line, checksumRequired)) {
+                corruptedOffset = corruptedOffset < 0 ? bufferStart + lineStart : corruptedOffset;
+            } else if (corruptedOffset >= 0) {
+                logger.error("corrupted record at offset {} of {} is followed by intact records", corruptedOffset, csvPath);
+                throw new InvalidDataException(ErrorMessage.CORRUPTED_RECORD);
+            } else {
+                checksumRequired = checksumRequired || VoucherCodec.hasChecksum(line);
+                indexLine(line, bufferStart + lineStart);
+            }
+            lineStart = i + 1;
+        }
+        return lineStart;
+    }
+
+    private void indexLine(ByteBuffer line, long lineStart) {
+        if (line.remaining() < UUID_LENGTH) {
+            return;
+        }
+        try {
+            byte[] bytes = new byte[UUID_LENGTH];
+            line.get(line.position(), bytes);
+            UUID voucherId = UUID.fromString(new String(bytes, StandardCharsets.US_ASCII));
+            if (VoucherCodec.isTombstone(line)) {
+                remove(voucherId, lineStart);
+            } else {
+                put(voucherId, lineStart);
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    private void put(UUID voucherId, long offset) {
+        putOffset(voucherId, offset);
+        appendPending(voucherId, offset);
+    }
+
+    private void remove(UUID voucherId, long offset) {
+        removeOffset(voucherId);
+        appendPending(voucherId, -offset - 1);
+    }
+
+    private void putOffset(UUID voucherId, long offset) {
+        if (offsets.put(voucherId, offset) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    private void removeOffset(UUID voucherId) {
+        if (offsets.remove(voucherId) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    private void appendPending(UUID voucherId, long entryOffset) {
+        if (pending.remaining() < ENTRY_SIZE) {
+            pending = ByteBuffer.allocate(pending.capacity() * 2).put(pending.flip());
+        }
+        putEntry(pending, voucherId, entryOffset);
+        lineCount++;
+    }
+
+    private ByteBuffer readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        return header.flip();
+    }
+
+    private void writeCoveredLength(long covered) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putLong(covered).putLong(fingerprintOf(covered)).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    private long fingerprintOf(long covered) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel csvChannel = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+            int headLength = (int) Math.min(covered, FINGERPRINT_SIZE);
+            long tailStart = Math.max(headLength, covered - FINGERPRINT_SIZE);
+            crc.update(readFully(csvChannel, 0, headLength));
+            crc.update(readFully(csvChannel, tailStart, (int) (covered - tailStart)));
+        }
+        return crc.getValue();
+    }
+
+    private static ByteBuffer readFully(FileChannel fileChannel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (fileChannel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void putEntry(ByteBuffer buffer, UUID voucherId, long offset) {
+        buffer.putLong(voucherId.getMostSignificantBits())
+                .putLong(voucherId.getLeastSignificantBits())
+                .putLong(offset);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.devcourse.springbootbasic.application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.nio.file.Path;
+
+public final class IoMetrics {
+
+    private IoMetrics() {}
+
+    public static Counter bytesRead(Path path) {
+        return counter("io.bytes.read", path);
+    }
+
+    public static Counter bytesWritten(Path path) {
+        return counter("io.bytes.written", path);
+    }
+
+    public static Counter rowsParsed(Path path) {
+        return counter("io.rows.parsed", path);
+    }
+
+    public static Counter parseFailures(Path path) {
+        return counter("io.parse.failures", path);
+    }
+
+    private static Counter counter(String name, Path path) {
+        return Metrics.counter(name, "file", String.valueOf(path.getFileName()));
+    }
+
+}
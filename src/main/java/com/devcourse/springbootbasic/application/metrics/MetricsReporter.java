@@ -0,0 +1,153 @@
+package com.devcourse.springbootbasic.application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class MetricsReporter implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsReporter.class);
+
+    private final MeterRegistry registry;
+    private final Path dumpPath;
+    private final Map<Meter.Id, Double> previousCounts = new ConcurrentHashMap<>();
+    private long previousReportNanos;
+    private ScheduledExecutorService scheduler;
+
+    public MetricsReporter(MeterRegistry registry, Path dumpPath) {
+        this.registry = registry;
+        this.dumpPath = dumpPath;
+        this.previousReportNanos = System.nanoTime();
+    }
+
+    public synchronized void start(long intervalSeconds) {
+        if (scheduler != null || intervalSeconds <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            report();
+        }
+    }
+
+    public synchronized List<String> report() {
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max(1e-9, (now - previousReportNanos) / 1e9);
+        previousReportNanos = now;
+        List<String> lines = new ArrayList<>();
+        registry.getMeters().stream()
+                .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                        .thenComparing(meter -> meter.getId().getTags().toString()))
+                .forEach(meter -> {
+                    String line = format(meter, elapsedSeconds);
+                    if (line != null) {
+                        lines.add(line);
+                    }
+                });
+        lines.forEach(logger::info);
+        dump(lines);
+        return lines;
+    }
+
+    private String format(Meter meter, double elapsedSeconds) {
+        String id = describe(meter.getId());
+        if (meter instanceof Timer timer) {
+            if (timer.count() == 0) {
+                return null;
+            }
+            StringBuilder builder = new StringBuilder(id)
+                    .append(" count=").append(timer.count())
+                    .append(" mean=").append(millis(timer.mean(TimeUnit.NANOSECONDS)));
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                builder.append(" p").append(percentileLabel(percentile.percentile()))
+                        .append('=').append(millis(percentile.value(TimeUnit.NANOSECONDS)));
+            }
+            return builder.append(" max=").append(millis(timer.max(TimeUnit.NANOSECONDS))).toString();
+        }
+        if (meter instanceof Counter counter) {
+            return formatCount(meter.getId(), id, counter.count(), elapsedSeconds);
+        }
+        if (meter instanceof FunctionCounter counter) {
+            return formatCount(meter.getId(), id, counter.count(), elapsedSeconds);
+        }
+        if (meter instanceof Gauge gauge) {
+            return id + " value=" + gauge.value();
+        }
+        return null;
+    }
+
+    private String formatCount(Meter.Id meterId, String id, double count, double elapsedSeconds) {
+        double previous = previousCounts.getOrDefault(meterId, 0.0);
+        previousCounts.put(meterId, count);
+        if (count == 0) {
+            return null;
+        }
+        return String.format("%s count=%.0f rate=%.1f/s", id, count, (count - previous) / elapsedSeconds);
+    }
+
+    private void dump(List<String> lines) {
+        if (dumpPath == null) {
+            return;
+        }
+        try {
+            Path parent = dumpPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(dumpPath, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("metrics dump failed: {}", dumpPath, e);
+        }
+    }
+
+    private static String describe(Meter.Id id) {
+        if (id.getTags().isEmpty()) {
+            return id.getName();
+        }
+        return id.getTags().stream()
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(",", id.getName() + "{", "}"));
+    }
+
+    private static String percentileLabel(double percentile) {
+        String digits = String.valueOf(percentile).substring(2);
+        return digits.length() == 1 ? digits + "0" : digits;
+    }
+
+    private static String millis(double nanos) {
+        return String.format("%.3fms", nanos / 1_000_000);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.devcourse.springbootbasic.application.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class OperationMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final String name;
+    private final String component;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failures = new ConcurrentHashMap<>();
+
+    public OperationMetrics(String name, String component) {
+        this.name = name;
+        this.component = component;
+    }
+
+    public <T> T record(String operation, Supplier<T> supplier) {
+        try {
+            return timer(operation).record(supplier);
+        } catch (RuntimeException e) {
+            failureCounter(operation).increment();
+            throw e;
+        }
+    }
+
+    public void record(String operation, Runnable runnable) {
+        record(operation, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public Counter counter(String operation) {
+        return Counter.builder(name + ".count")
+                .tag("component", component)
+                .tag("operation", operation)
+                .register(Metrics.globalRegistry);
+    }
+
+    public Timer timer(String operation) {
+        return timers.computeIfAbsent(operation, key -> Timer.builder(name)
+                .tag("component", component)
+                .tag("operation", key)
+                .publishPercentiles(PERCENTILES)
+                .register(Metrics.globalRegistry));
+    }
+
+    private Counter failureCounter(String operation) {
+        return failures.computeIfAbsent(operation, key -> Counter.builder(name + ".failures")
+                .tag("component", component)
+                .tag("operation", key)
+                .register(Metrics.globalRegistry));
+    }
+
+}
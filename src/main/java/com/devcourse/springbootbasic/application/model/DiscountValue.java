@@ -7,28 +7,44 @@ import java.util.Objects;
 
 public class DiscountValue {
 
-    private final double discountValue;
+    private final long scaledValue;
 
     public DiscountValue(VoucherType voucherType, String value) {
-        this.discountValue = Double.parseDouble(value);
+        this(FixedPoint.parse(value), voucherType);
+    }
+
+    public DiscountValue(VoucherType voucherType, double value) {
+        this(FixedPoint.fromDoubleExact(value), voucherType);
+    }
+
+    private DiscountValue(long scaledValue, VoucherType voucherType) {
+        this.scaledValue = scaledValue;
         validatePositive();
         validatePercent(voucherType);
     }
 
+    public static DiscountValue ofScaled(VoucherType voucherType, long scaledValue) {
+        return new DiscountValue(scaledValue, voucherType);
+    }
+
     private void validatePositive() {
-        if (discountValue < 0) {
-            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE.getMessageText());
+        if (scaledValue < 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
         }
     }
 
     private void validatePercent(VoucherType voucherType) {
-        if (Objects.equals(voucherType, VoucherType.PERCENT_DISCOUNT) && discountValue > 100) {
-            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE.getMessageText());
+        if (Objects.equals(voucherType, VoucherType.PERCENT_DISCOUNT) && scaledValue > FixedPoint.PERCENT_DENOMINATOR) {
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
         }
     }
 
     public double getValue() {
-        return discountValue;
+        return FixedPoint.toDouble(scaledValue);
+    }
+
+    public long getScaledValue() {
+        return scaledValue;
     }
 
 }
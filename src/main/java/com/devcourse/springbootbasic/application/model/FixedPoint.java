@@ -0,0 +1,115 @@
+package com.devcourse.springbootbasic.application.model;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class FixedPoint {
+
+    public static final int SCALE_DIGITS = 2;
+    public static final long SCALE = 100;
+    public static final long PERCENT_DENOMINATOR = 100 * SCALE;
+    public static final long MAX_PERCENT_PRICE = (Long.MAX_VALUE - PERCENT_DENOMINATOR) / PERCENT_DENOMINATOR;
+
+    private static final int MAX_INTEGER_DIGITS = 16;
+    private static final RoundingMode STORED_ROUNDING = RoundingMode.HALF_UP;
+
+    private FixedPoint() {}
+
+    public static long parse(String text) {
+        return parse(text, 0, text.length());
+    }
+
+    public static long parse(CharSequence text, int start, int end) {
+        return parse(text, start, end, RoundingMode.UNNECESSARY);
+    }
+
+    public static long parseStored(CharSequence text, int start, int end) {
+        return parse(text, start, end, STORED_ROUNDING);
+    }
+
+    public static long fromDoubleExact(double value) {
+        return parse(Double.toString(value));
+    }
+
+    private static long parse(CharSequence text, int start, int end, RoundingMode roundingMode) {
+        int index = start;
+        boolean negative = index < end && text.charAt(index) == '-';
+        if (negative) {
+            index++;
+        }
+        long integer = 0;
+        int integerDigits = 0;
+        for (; index < end && isDigit(text.charAt(index)); index++) {
+            integer = integer * 10 + (text.charAt(index) - '0');
+            integerDigits++;
+        }
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (index < end && text.charAt(index) == '.') {
+            for (index++; index < end && isDigit(text.charAt(index)); index++) {
+                fraction = fraction * 10 + (text.charAt(index) - '0');
+                fractionDigits++;
+            }
+        }
+        if (index != end || integerDigits + fractionDigits == 0
+                || integerDigits > MAX_INTEGER_DIGITS || fractionDigits > SCALE_DIGITS) {
+            return parseSlowly(text.subSequence(start, end).toString(), roundingMode);
+        }
+        long scaled = integer * SCALE + (fractionDigits == 1 ? fraction * 10 : fraction);
+        return negative ? -scaled : scaled;
+    }
+
+    public static long fromDouble(double value) {
+        return Math.round(value * SCALE);
+    }
+
+    public static double toDouble(long scaled) {
+        return (double) scaled / SCALE;
+    }
+
+    public static String format(long scaled) {
+        return format(scaled, new StringBuilder(24)).toString();
+    }
+
+    public static StringBuilder format(long scaled, StringBuilder builder) {
+        long integer = scaled / SCALE;
+        long fraction = Math.abs(scaled % SCALE);
+        if (scaled < 0 && integer == 0) {
+            builder.append('-');
+        }
+        builder.append(integer);
+        if (fraction != 0) {
+            builder.append('.').append(fraction / 10);
+            if (fraction % 10 != 0) {
+                builder.append(fraction % 10);
+            }
+        }
+        return builder;
+    }
+
+    public static long applyPercent(long minorPrice, long scaledPercent) {
+        if (minorPrice < 0 || minorPrice > MAX_PERCENT_PRICE) {
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE);
+        }
+        return (minorPrice * (PERCENT_DENOMINATOR - scaledPercent) + PERCENT_DENOMINATOR / 2) / PERCENT_DENOMINATOR;
+    }
+
+    private static long parseSlowly(String text, RoundingMode roundingMode) {
+        try {
+            return new BigDecimal(text.trim())
+                    .setScale(SCALE_DIGITS, roundingMode)
+                    .unscaledValue()
+                    .longValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_DISCOUNT_VALUE, e);
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+}
@@ -22,7 +22,7 @@ public enum ListMenu {
         return Arrays.stream(ListMenu.values())
                 .filter(listMenu -> Objects.equals(listMenu.listMenuOrdinal, input))
                 .findAny()
-                .orElseThrow(() -> new InvalidDataException(ErrorMessage.INVALID_LIST_MENU.getMessageText()));
+                .orElseThrow(() -> new InvalidDataException(ErrorMessage.INVALID_LIST_MENU));
     }
 
     public String getListMenuOrdinal() {
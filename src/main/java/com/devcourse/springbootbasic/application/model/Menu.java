@@ -9,7 +9,10 @@ import java.util.Objects;
 public enum Menu {
     EXIT("0", "exit", "to exit the program."),
     CREATE("1", "create", "to create a new voucher."),
-    LIST("2", "list", "to list all vouchers.");
+    LIST("2", "list", "to list all vouchers."),
+    FIND("3", "find", "to find a voucher by id."),
+    GENERATE("4", "generate", "to generate vouchers in bulk."),
+    IMPORT("5", "import", "to import vouchers from a csv file.");
 
     private final String menuOrdinal;
     private final String menuCommand;
@@ -25,7 +28,7 @@ public enum Menu {
         return Arrays.stream(Menu.values())
                 .filter(menu -> Objects.equals(menu.menuCommand, menuString) || Objects.equals(menu.menuOrdinal, menuString))
                 .findAny()
-                .orElseThrow(() -> new InvalidDataException(ErrorMessage.INVALID_MENU.getMessageText()));
+                .orElseThrow(() -> new InvalidDataException(ErrorMessage.INVALID_MENU));
     }
 
     public String getMenuOrdinal() {
@@ -0,0 +1,43 @@
+package com.devcourse.springbootbasic.application.model;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public record VoucherPage(
+        List<Voucher> vouchers,
+        UUID nextCursor
+) {
+
+    public static VoucherPage of(List<Voucher> candidates, int size) {
+        if (candidates.size() <= size) {
+            return new VoucherPage(List.copyOf(candidates), null);
+        }
+        List<Voucher> vouchers = List.copyOf(candidates.subList(0, size));
+        return new VoucherPage(vouchers, vouchers.get(size - 1).getVoucherId());
+    }
+
+    public static VoucherPage first(Stream<Voucher> vouchers, UUID after, int size) {
+        TreeMap<UUID, Voucher> candidates = vouchers
+                .filter(voucher -> after == null || voucher.getVoucherId().compareTo(after) > 0)
+                .collect(TreeMap::new,
+                        (page, voucher) -> keep(page, voucher, size + 1),
+                        (page, other) -> other.values().forEach(voucher -> keep(page, voucher, size + 1)));
+        return of(new ArrayList<>(candidates.values()), size);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    private static void keep(TreeMap<UUID, Voucher> page, Voucher voucher, int limit) {
+        page.put(voucher.getVoucherId(), voucher);
+        if (page.size() > limit) {
+            page.pollLastEntry();
+        }
+    }
+}
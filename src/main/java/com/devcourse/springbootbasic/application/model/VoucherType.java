@@ -22,7 +22,7 @@ public enum VoucherType {
         return Arrays.stream(VoucherType.values())
                 .filter(voucherType -> Objects.equals(voucherType.typeOrdinal, voucherTypeString) || Objects.equals(voucherType.typeString, voucherTypeString) || voucherType.name().equals(voucherTypeString))
                 .findAny()
-                .orElseThrow(() -> new InvalidDataException(ErrorMessage.INVALID_VOUCHER_TYPE.getMessageText()));
+                .orElseThrow(() -> new InvalidDataException(ErrorMessage.INVALID_VOUCHER_TYPE));
     }
 
     public String getTypeOrdinal() {
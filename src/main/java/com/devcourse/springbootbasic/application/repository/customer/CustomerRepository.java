@@ -1,12 +1,13 @@
 package com.devcourse.springbootbasic.application.repository.customer;
 
-import com.devcourse.springbootbasic.application.converter.CustomerConverter;
+import com.devcourse.springbootbasic.application.converter.CustomerCodec;
 import com.devcourse.springbootbasic.application.domain.customer.Customer;
 import com.devcourse.springbootbasic.application.io.CsvReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public class CustomerRepository {
@@ -20,10 +21,17 @@ public class CustomerRepository {
     }
 
     public List<Customer> findAll() {
-        return csvReader.readFile(filepath)
-                .stream()
-                .map(CustomerConverter::convertCsvToCustomer)
-                .toList();
+        try (Stream<Customer> customers = streamAll()) {
+            return customers.toList();
+        }
+    }
+
+    public Stream<Customer> streamAll() {
+        return csvReader.streamRecords(filepath, CustomerCodec.PARSER);
+    }
+
+    public String getFilepath() {
+        return filepath;
     }
 
     public void setFilepath(String filepath) {
@@ -0,0 +1,126 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.io.BinaryVoucherFile;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+@Repository
+@Profile({"binary"})
+public class BinaryVoucherRepository implements VoucherRepository {
+
+    private final Map<UUID, Long> recordNumbers = new ConcurrentHashMap<>();
+    private final OperationMetrics metrics = new OperationMetrics("repository.operations", "binary");
+    @Value("${settings.voucherBinaryPath}")
+    private String filepath;
+    private BinaryVoucherFile binaryVoucherFile;
+
+    @Override
+    public Voucher insert(Voucher voucher) {
+        return metrics.record("insert", () -> {
+            long recordNumber = getFile().append(voucher);
+            recordNumbers.put(voucher.getVoucherId(), recordNumber);
+            return voucher;
+        });
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        return metrics.record("insertAll", () -> {
+            long recordNumber = getFile().appendAll(vouchers);
+            for (Voucher voucher : vouchers) {
+                recordNumbers.put(voucher.getVoucherId(), recordNumber++);
+            }
+            return List.copyOf(vouchers);
+        });
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return metrics.record("findAll", () -> {
+            try (Stream<Voucher> vouchers = getFile().stream()) {
+                return vouchers.toList();
+            }
+        });
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return metrics.record("streamAll", () -> getFile().stream());
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        return metrics.record("findById", () -> {
+            BinaryVoucherFile file = getFile();
+            return Optional.ofNullable(recordNumbers.get(voucherId))
+                    .flatMap(file::find);
+        });
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        return metrics.record("update", () -> {
+            BinaryVoucherFile file = getFile();
+            Long recordNumber = recordNumbers.computeIfPresent(voucher.getVoucherId(), (voucherId, current) -> {
+                file.overwrite(current, voucher);
+                return current;
+            });
+            if (recordNumber == null) {
+                throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+            }
+            return voucher;
+        });
+    }
+
+    @Override
+    public boolean deleteById(UUID voucherId) {
+        return metrics.record("deleteById", () -> {
+            BinaryVoucherFile file = getFile();
+            AtomicBoolean deleted = new AtomicBoolean();
+            recordNumbers.computeIfPresent(voucherId, (id, current) -> {
+                deleted.set(file.tombstone(current));
+                return null;
+            });
+            return deleted.get();
+        });
+    }
+
+    public void setFilepath(String filepath) {
+        close();
+        this.filepath = filepath;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (binaryVoucherFile != null) {
+            binaryVoucherFile.close();
+            binaryVoucherFile = null;
+            recordNumbers.clear();
+        }
+    }
+
+    private synchronized BinaryVoucherFile getFile() {
+        if (binaryVoucherFile == null) {
+            binaryVoucherFile = BinaryVoucherFile.open(Path.of(filepath));
+            binaryVoucherFile.forEachRecord((voucher, recordNumber) -> recordNumbers.put(voucher.getVoucherId(), recordNumber));
+        }
+        return binaryVoucherFile;
+    }
+
+}
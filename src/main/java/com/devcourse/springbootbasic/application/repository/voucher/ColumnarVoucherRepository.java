@@ -0,0 +1,42 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.devcourse.springbootbasic.application.vo.ColumnarVoucherStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@Profile({"columnar"})
+public class ColumnarVoucherRepository extends VoucherStoreRepository<ColumnarVoucherStore> {
+
+    public ColumnarVoucherRepository(@Value("${settings.columnarInitialCapacity:65536}") int initialCapacity) {
+        super(new ColumnarVoucherStore(initialCapacity), "columnar");
+    }
+
+    @Override
+    public List<Voucher> findByType(VoucherType voucherType) {
+        return metrics.record("findByType", () -> store.findByType(voucherType));
+    }
+
+    @Override
+    public List<Voucher> findByDiscountRange(long minScaledValue, long maxScaledValue) {
+        return metrics.record("findByDiscountRange", () -> store.findByDiscountRange(minScaledValue, maxScaledValue));
+    }
+
+    public int countByType(VoucherType voucherType) {
+        return metrics.record("countByType", () -> store.countByType(voucherType));
+    }
+
+    public long[] lowestDiscountedMinorPrices(long[] minorPrices) {
+        return metrics.record("lowestDiscountedMinorPrices", () -> store.lowestDiscountedMinorPrices(minorPrices));
+    }
+
+    public long heapBytes() {
+        return store.heapBytes();
+    }
+
+}
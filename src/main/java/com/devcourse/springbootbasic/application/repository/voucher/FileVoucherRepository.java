@@ -1,43 +1,199 @@
 package com.devcourse.springbootbasic.application.repository.voucher;
 
-import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
 import com.devcourse.springbootbasic.application.io.CsvReader;
 import com.devcourse.springbootbasic.application.io.CsvWriter;
+import com.devcourse.springbootbasic.application.io.ShardLayout;
+import com.devcourse.springbootbasic.application.io.VoucherEntry;
+import com.devcourse.springbootbasic.application.vo.LazyVoucherIndex;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
-@Profile({"default"})
+@Profile({"default", "tiered"})
 public class FileVoucherRepository implements VoucherRepository {
 
     private final CsvReader csvReader;
     private final CsvWriter csvWriter;
+    private final OperationMetrics metrics = new OperationMetrics("repository.operations", "file");
+    private final LazyVoucherIndex voucherIndex = new LazyVoucherIndex(this::scanShards);
     @Value("${settings.voucherRecordPath}")
     private String filepath;
+    @Value("${settings.shardCount:1}")
+    private int shardCount = 1;
+    private volatile ShardLayout layout;
 
     public FileVoucherRepository(CsvReader csvReader, CsvWriter csvWriter) {
         this.csvReader = csvReader;
         this.csvWriter = csvWriter;
     }
 
+    @PostConstruct
+    public void recover() {
+        ShardLayout layout = layout();
+        layout.validate();
+        layout.paths().parallelStream()
+                .forEach(path -> csvWriter.open(path.toString()));
+    }
+
     @Override
     public Voucher insert(Voucher voucher) {
-        return csvWriter.writeFile(filepath, voucher);
+        return metrics.record("insert", () -> voucherIndex.write(
+                voucher.getVoucherId(),
+                () -> csvWriter.writeFile(layout().pathOf(voucher.getVoucherId()).toString(), voucher),
+                index -> index.add(voucher)
+        ));
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        return metrics.record("insertAll", () -> voucherIndex.writeAll(vouchers, () -> {
+            ShardLayout layout = layout();
+            if (layout.shardCount() == 1) {
+                return csvWriter.writeAll(filepath, vouchers);
+            }
+            Map<String, List<Voucher>> vouchersByShard = vouchers.stream()
+                    .collect(Collectors.groupingBy(voucher -> layout.pathOf(voucher.getVoucherId()).toString()));
+            csvWriter.writeAll(vouchersByShard);
+            return List.copyOf(vouchers);
+        }, index -> vouchers.forEach(index::add)));
     }
 
     @Override
     public List<Voucher> findAll() {
-        return csvReader.readFile(filepath)
-                .stream()
-                .map(VoucherConverter::convertCsvToVoucher)
+        return metrics.record("findAll", () -> findMatching(voucher -> true));
+    }
+
+    public List<Voucher> findMatching(Predicate<Voucher> filter) {
+        return scanShards().filter(filter)
                 .toList();
     }
 
+    @Override
+    public Stream<Voucher> streamAll() {
+        return metrics.record("streamAll", () -> layout().paths().stream()
+                .flatMap(this::streamShard));
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        return metrics.record("findById", () -> {
+            String shardPath = layout().pathOf(voucherId).toString();
+            return csvWriter.findOffset(shardPath, voucherId)
+                    .stream()
+                    .mapToObj(offset -> csvReader.readLine(shardPath, offset))
+                    .map(VoucherCodec::decode)
+                    .findAny();
+        });
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        return metrics.record("update", () -> voucherIndex.write(voucher.getVoucherId(), () -> {
+            String shardPath = layout().pathOf(voucher.getVoucherId()).toString();
+            if (csvWriter.findOffset(shardPath, voucher.getVoucherId()).isEmpty()) {
+                throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+            }
+            return csvWriter.writeFile(shardPath, voucher);
+        }, index -> index.replace(voucher)));
+    }
+
+    @Override
+    public boolean deleteById(UUID voucherId) {
+        return metrics.record("deleteById", () -> voucherIndex.write(voucherId, () -> {
+            String shardPath = layout().pathOf(voucherId).toString();
+            if (csvWriter.findOffset(shardPath, voucherId).isEmpty()) {
+                return false;
+            }
+            csvWriter.delete(shardPath, voucherId);
+            return true;
+        }, index -> index.remove(voucherId)));
+    }
+
+    @Override
+    public List<Voucher> findByType(VoucherType voucherType) {
+        return metrics.record("findByType", () -> voucherIndex.get().findByType(voucherType));
+    }
+
+    @Override
+    public List<Voucher> findByDiscountRange(long minScaledValue, long maxScaledValue) {
+        return metrics.record("findByDiscountRange", () -> voucherIndex.get().findByDiscountRange(minScaledValue, maxScaledValue));
+    }
+
+    @Override
+    public VoucherPage findPage(UUID after, int size) {
+        return metrics.record("findPage", () -> {
+            TreeMap<UUID, String> candidates = new TreeMap<>();
+            for (Path path : layout().paths()) {
+                String shardPath = path.toString();
+                for (UUID voucherId : csvWriter.offsetsAfter(shardPath, after).keySet()) {
+                    if (candidates.size() > size && voucherId.compareTo(candidates.lastKey()) > 0) {
+                        break;
+                    }
+                    candidates.put(voucherId, shardPath);
+                    if (candidates.size() > size + 1) {
+                        candidates.pollLastEntry();
+                    }
+                }
+            }
+            List<Voucher> vouchers = new ArrayList<>(candidates.size());
+            candidates.forEach((voucherId, shardPath) -> csvWriter.findOffset(shardPath, voucherId)
+                    .ifPresent(offset -> vouchers.add(VoucherCodec.decode(csvReader.readLine(shardPath, offset)))));
+            return VoucherPage.of(vouchers, size);
+        });
+    }
+
     public void setFilepath(String filepath) {
         this.filepath = filepath;
+        this.layout = null;
+        voucherIndex.reset();
     }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+        this.layout = null;
+        voucherIndex.reset();
+    }
+
+    private ShardLayout layout() {
+        ShardLayout current = layout;
+        if (current == null) {
+            current = ShardLayout.of(filepath, shardCount);
+            layout = current;
+        }
+        return current;
+    }
+
+    private Stream<Voucher> scanShards() {
+        return layout().paths().parallelStream()
+                .flatMap(this::streamShard);
+    }
+
+    private Stream<Voucher> streamShard(Path path) {
+        String shardPath = path.toString();
+        csvWriter.open(shardPath);
+        return csvReader.streamRecords(shardPath, VoucherCodec.ENTRY_PARSER, (entry, offset) -> csvWriter.isLive(shardPath, entry.voucherId(), offset))
+                .map(VoucherEntry::voucher);
+    }
+
 }
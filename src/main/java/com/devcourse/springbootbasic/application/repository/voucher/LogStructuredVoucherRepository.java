@@ -0,0 +1,157 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.DurabilityMode;
+import com.devcourse.springbootbasic.application.io.VoucherLog;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Repository
+@Profile({"log"})
+public class LogStructuredVoucherRepository implements VoucherRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogStructuredVoucherRepository.class);
+
+    private final OperationMetrics metrics = new OperationMetrics("repository.operations", "log");
+    @Value("${settings.voucherLogPath:storage/vouchers/log}")
+    private String directory = "storage/vouchers/log";
+    @Value("${settings.segmentSize:67108864}")
+    private long segmentSize = 64L * 1024 * 1024;
+    @Value("${settings.durability:BATCH}")
+    private DurabilityMode durabilityMode = DurabilityMode.BATCH;
+    @Value("${settings.compactionThreshold:0.5}")
+    private double compactionThreshold = 0.5;
+    @Value("${settings.compactionInterval:30}")
+    private long compactionInterval = 30;
+    private VoucherLog voucherLog;
+    private ScheduledExecutorService compactor;
+
+    @Override
+    public Voucher insert(Voucher voucher) {
+        return metrics.record("insert", () -> getLog().put(voucher));
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        return metrics.record("insertAll", () -> getLog().putAll(vouchers));
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return metrics.record("findAll", () -> {
+            try (Stream<Voucher> vouchers = getLog().stream()) {
+                return vouchers.toList();
+            }
+        });
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return metrics.record("streamAll", () -> getLog().stream());
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        return metrics.record("findById", () -> getLog().get(voucherId));
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        return metrics.record("update", () -> {
+            if (!getLog().replace(voucher)) {
+                throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+            }
+            return voucher;
+        });
+    }
+
+    @Override
+    public boolean deleteById(UUID voucherId) {
+        return metrics.record("deleteById", () -> getLog().delete(voucherId));
+    }
+
+    public boolean compactIfNeeded() {
+        return compactIfNeeded(getLog());
+    }
+
+    public void setDirectory(String directory) {
+        close();
+        this.directory = directory;
+    }
+
+    public void setSegmentSize(long segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public void setDurabilityMode(DurabilityMode durabilityMode) {
+        this.durabilityMode = durabilityMode;
+    }
+
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public void setCompactionInterval(long compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (compactor != null) {
+            compactor.shutdownNow();
+            compactor = null;
+        }
+        if (voucherLog != null) {
+            voucherLog.close();
+            voucherLog = null;
+        }
+    }
+
+    private synchronized VoucherLog getLog() {
+        if (voucherLog == null) {
+            voucherLog = VoucherLog.open(Path.of(directory), segmentSize, durabilityMode);
+            startCompactor(voucherLog);
+        }
+        return voucherLog;
+    }
+
+    private boolean compactIfNeeded(VoucherLog log) {
+        return log.garbageRatio() >= compactionThreshold && log.compact();
+    }
+
+    private void startCompactor(VoucherLog log) {
+        if (compactionInterval <= 0) {
+            return;
+        }
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(() -> {
+            try {
+                compactIfNeeded(log);
+            } catch (InvalidDataException e) {
+                logger.warn("voucher log compaction failed", e);
+            }
+        }, compactionInterval, compactionInterval, TimeUnit.SECONDS);
+    }
+
+}
@@ -1,30 +1,108 @@
 package com.devcourse.springbootbasic.application.repository.voucher;
 
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.devcourse.springbootbasic.application.vo.LazyVoucherIndex;
 import com.devcourse.springbootbasic.application.vo.VoucherMap;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @Profile({"dev"})
 public class MemoryVoucherRepository implements VoucherRepository {
 
     private final VoucherMap voucherMap;
+    private final LazyVoucherIndex voucherIndex;
+    private final OperationMetrics metrics = new OperationMetrics("repository.operations", "memory");
 
     public MemoryVoucherRepository() {
         this.voucherMap = new VoucherMap();
+        this.voucherIndex = new LazyVoucherIndex(voucherMap::streamVouchers);
     }
 
     @Override
     public Voucher insert(Voucher voucher) {
-        return voucherMap.addVoucher(voucher);
+        return metrics.record("insert", () -> voucherIndex.write(
+                voucher.getVoucherId(),
+                () -> voucherMap.addVoucher(voucher),
+                index -> index.add(voucher)
+        ));
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        return metrics.record("insertAll", () -> voucherIndex.writeAll(vouchers, () -> {
+            vouchers.forEach(voucherMap::addVoucher);
+            return List.copyOf(vouchers);
+        }, index -> vouchers.forEach(index::add)));
     }
 
     @Override
     public List<Voucher> findAll() {
-        return voucherMap.getAllVouchers();
+        return metrics.record("findAll", voucherMap::getAllVouchers);
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return metrics.record("streamAll", voucherMap::streamVouchers);
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        return metrics.record("findById", () -> voucherMap.findVoucher(voucherId));
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        return metrics.record("update", () -> voucherIndex.write(voucher.getVoucherId(), () -> {
+            if (!voucherMap.replaceVoucher(voucher)) {
+                throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+            }
+            return voucher;
+        }, index -> index.replace(voucher)));
+    }
+
+    @Override
+    public boolean deleteById(UUID voucherId) {
+        return metrics.record("deleteById", () -> voucherIndex.write(
+                voucherId,
+                () -> voucherMap.removeVoucher(voucherId),
+                index -> index.remove(voucherId)
+        ));
+    }
+
+    @Override
+    public List<Voucher> findByType(VoucherType voucherType) {
+        return metrics.record("findByType", () -> voucherIndex.get().findByType(voucherType));
+    }
+
+    @Override
+    public List<Voucher> findByDiscountRange(long minScaledValue, long maxScaledValue) {
+        return metrics.record("findByDiscountRange", () -> voucherIndex.get().findByDiscountRange(minScaledValue, maxScaledValue));
+    }
+
+    @Override
+    public VoucherPage findPage(UUID after, int size) {
+        return metrics.record("findPage", () -> voucherIndex.get().findPage(after, size));
+    }
+
+    public void forEach(Consumer<Voucher> action) {
+        voucherMap.forEachVoucher(action);
+    }
+
+    public int size() {
+        return voucherMap.size();
     }
 
 }
@@ -0,0 +1,20 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.vo.OffHeapVoucherStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile({"offheap"})
+public class OffHeapVoucherRepository extends VoucherStoreRepository<OffHeapVoucherStore> {
+
+    public OffHeapVoucherRepository(@Value("${settings.offHeapInitialCapacity:1048576}") int initialCapacity) {
+        super(new OffHeapVoucherStore(initialCapacity), "offheap");
+    }
+
+    public long offHeapBytes() {
+        return store.offHeapBytes();
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+public record TierStatistics(
+        long hits,
+        long misses,
+        int hotSize,
+        int hotCapacity
+) {
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
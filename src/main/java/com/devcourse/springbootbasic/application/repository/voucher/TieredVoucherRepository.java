@@ -0,0 +1,140 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.devcourse.springbootbasic.application.vo.RecentVoucherCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Primary
+@Repository
+@Profile({"tiered"})
+public class TieredVoucherRepository implements VoucherRepository {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final Lock[] stripes = new Lock[LOCK_STRIPES];
+    private final FileVoucherRepository coldTier;
+    private final RecentVoucherCache hotTier;
+    private final OperationMetrics metrics = new OperationMetrics("repository.operations", "tiered");
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TieredVoucherRepository(FileVoucherRepository coldTier, @Value("${settings.hotTierCapacity:10000}") int hotTierCapacity) {
+        this.coldTier = coldTier;
+        this.hotTier = new RecentVoucherCache(hotTierCapacity);
+        for (int stripe = 0; stripe < LOCK_STRIPES; stripe++) {
+            stripes[stripe] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Voucher insert(Voucher voucher) {
+        return metrics.record("insert", () -> locked(voucher.getVoucherId(), () -> {
+            Voucher inserted = coldTier.insert(voucher);
+            hotTier.put(inserted);
+            return inserted;
+        }));
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        return metrics.record("insertAll", () -> {
+            List<Voucher> inserted = coldTier.insertAll(vouchers);
+            inserted.forEach(voucher -> locked(voucher.getVoucherId(), () -> {
+                hotTier.remove(voucher.getVoucherId());
+                return voucher;
+            }));
+            return inserted;
+        });
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return metrics.record("findAll", coldTier::findAll);
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return metrics.record("streamAll", coldTier::streamAll);
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        return metrics.record("findById", () -> {
+            Optional<Voucher> hot = hotTier.get(voucherId);
+            if (hot.isPresent()) {
+                hits.increment();
+                return hot;
+            }
+            misses.increment();
+            return locked(voucherId, () -> {
+                Optional<Voucher> cold = coldTier.findById(voucherId);
+                cold.ifPresent(hotTier::put);
+                return cold;
+            });
+        });
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        return metrics.record("update", () -> locked(voucher.getVoucherId(), () -> {
+            Voucher updated = coldTier.update(voucher);
+            hotTier.put(updated);
+            return updated;
+        }));
+    }
+
+    @Override
+    public boolean deleteById(UUID voucherId) {
+        return metrics.record("deleteById", () -> locked(voucherId, () -> {
+            boolean deleted = coldTier.deleteById(voucherId);
+            hotTier.remove(voucherId);
+            return deleted;
+        }));
+    }
+
+    @Override
+    public List<Voucher> findByType(VoucherType voucherType) {
+        return metrics.record("findByType", () -> coldTier.findByType(voucherType));
+    }
+
+    @Override
+    public List<Voucher> findByDiscountRange(long minScaledValue, long maxScaledValue) {
+        return metrics.record("findByDiscountRange", () -> coldTier.findByDiscountRange(minScaledValue, maxScaledValue));
+    }
+
+    @Override
+    public VoucherPage findPage(UUID after, int size) {
+        return metrics.record("findPage", () -> coldTier.findPage(after, size));
+    }
+
+    public TierStatistics getStatistics() {
+        return new TierStatistics(hits.sum(), misses.sum(), hotTier.size(), hotTier.getCapacity());
+    }
+
+    private <T> T locked(UUID voucherId, Supplier<T> action) {
+        Lock stripe = stripes[(voucherId.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+        stripe.lock();
+        try {
+            return action.get();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+}
@@ -1,11 +1,50 @@
 package com.devcourse.springbootbasic.application.repository.voucher;
 
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface VoucherRepository {
     Voucher insert(Voucher voucher);
 
+    List<Voucher> insertAll(Collection<Voucher> vouchers);
+
     List<Voucher> findAll();
+
+    Stream<Voucher> streamAll();
+
+    Optional<Voucher> findById(UUID voucherId);
+
+    Voucher update(Voucher voucher);
+
+    boolean deleteById(UUID voucherId);
+
+    default List<Voucher> findByType(VoucherType voucherType) {
+        try (Stream<Voucher> vouchers = streamAll()) {
+            return vouchers.filter(voucher -> voucher.getVoucherType() == voucherType)
+                    .toList();
+        }
+    }
+
+    default List<Voucher> findByDiscountRange(long minScaledValue, long maxScaledValue) {
+        try (Stream<Voucher> vouchers = streamAll()) {
+            return vouchers.filter(voucher -> {
+                        long scaledValue = voucher.getDiscountValue().getScaledValue();
+                        return scaledValue >= minScaledValue && scaledValue <= maxScaledValue;
+                    })
+                    .toList();
+        }
+    }
+
+    default VoucherPage findPage(UUID after, int size) {
+        try (Stream<Voucher> vouchers = streamAll()) {
+            return VoucherPage.first(vouchers, after, size);
+        }
+    }
 }
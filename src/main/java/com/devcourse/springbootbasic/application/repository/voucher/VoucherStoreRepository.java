@@ -0,0 +1,79 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.vo.VoucherStore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public abstract class VoucherStoreRepository<S extends VoucherStore> implements VoucherRepository {
+
+    protected final S store;
+    protected final OperationMetrics metrics;
+
+    protected VoucherStoreRepository(S store, String storeName) {
+        this.store = store;
+        this.metrics = new OperationMetrics("repository.operations", storeName);
+    }
+
+    @Override
+    public Voucher insert(Voucher voucher) {
+        return metrics.record("insert", () -> {
+            store.put(voucher);
+            return voucher;
+        });
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        return metrics.record("insertAll", () -> {
+            vouchers.forEach(store::put);
+            return List.copyOf(vouchers);
+        });
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return metrics.record("findAll", () -> {
+            try (Stream<Voucher> vouchers = store.stream()) {
+                return vouchers.toList();
+            }
+        });
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return metrics.record("streamAll", store::stream);
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        return metrics.record("findById", () -> store.get(voucherId));
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        return metrics.record("update", () -> {
+            if (!store.replace(voucher)) {
+                throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+            }
+            return voucher;
+        });
+    }
+
+    @Override
+    public boolean deleteById(UUID voucherId) {
+        return metrics.record("deleteById", () -> store.remove(voucherId));
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+}
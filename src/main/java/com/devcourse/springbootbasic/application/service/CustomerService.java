@@ -1,21 +1,89 @@
 package com.devcourse.springbootbasic.application.service;
 
 import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.FileWatcher;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
 import com.devcourse.springbootbasic.application.repository.customer.CustomerRepository;
+import com.devcourse.springbootbasic.application.vo.IntHashSet;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class CustomerService {
 
+    private static final Logger logger = LoggerFactory.getLogger(CustomerService.class);
+
     private final CustomerRepository customerRepository;
+    private final OperationMetrics metrics = new OperationMetrics("service.operations", "customer");
+    private final Counter blacklistChecks = metrics.counter("isBlacklisted");
+    private final Counter blacklistHits = metrics.counter("isBlacklisted.hit");
+    private volatile IntHashSet blacklist;
+    private FileWatcher blacklistWatcher;
 
     public CustomerService(CustomerRepository customerRepository) {
         this.customerRepository = customerRepository;
     }
 
     public List<Customer> getBlackCustomers() {
-        return customerRepository.findAll();
+        return metrics.record("list", customerRepository::findAll);
+    }
+
+    public Stream<Customer> streamBlackCustomers() {
+        return metrics.record("stream", customerRepository::streamAll);
+    }
+
+    public boolean isBlacklisted(int customerId) {
+        IntHashSet snapshot = blacklist;
+        if (snapshot == null) {
+            snapshot = reloadBlacklist();
+        }
+        blacklistChecks.increment();
+        boolean blacklisted = snapshot.contains(customerId);
+        if (blacklisted) {
+            blacklistHits.increment();
+        }
+        return blacklisted;
+    }
+
+    public synchronized IntHashSet reloadBlacklist() {
+        return metrics.record("reload", () -> {
+            IntHashSet reloaded = new IntHashSet();
+            try (Stream<Customer> customers = customerRepository.streamAll()) {
+                customers.forEach(customer -> reloaded.add(customer.getCustomerId()));
+            }
+            blacklist = reloaded;
+            return reloaded;
+        });
+    }
+
+    @PostConstruct
+    public void watchBlacklist() {
+        try {
+            reloadBlacklist();
+        } catch (InvalidDataException exception) {
+            blacklist = new IntHashSet();
+            logger.error(exception.getMessage(), exception);
+        }
+        try {
+            blacklistWatcher = new FileWatcher(Path.of(customerRepository.getFilepath()), this::reloadBlacklist);
+        } catch (InvalidDataException exception) {
+            logger.error(exception.getMessage(), exception);
+        }
+    }
+
+    @PreDestroy
+    public void stopWatchingBlacklist() {
+        if (blacklistWatcher != null) {
+            blacklistWatcher.close();
+        }
     }
 }
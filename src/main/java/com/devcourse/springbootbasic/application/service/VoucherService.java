@@ -1,25 +1,148 @@
 package com.devcourse.springbootbasic.application.service;
 
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.domain.voucher.DiscountEngine;
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.CsvImportPipeline;
+import com.devcourse.springbootbasic.application.io.CsvRecordParser;
+import com.devcourse.springbootbasic.application.io.ImportReport;
+import com.devcourse.springbootbasic.application.metrics.OperationMetrics;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherDto;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
 import com.devcourse.springbootbasic.application.repository.voucher.VoucherRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 public class VoucherService {
 
+    private static final int GENERATION_CHUNK_SIZE = 10_000;
+    private static final CsvRecordParser<Voucher> IMPORT_PARSER = new CsvRecordParser<>() {
+        @Override
+        public Voucher parse(String line) {
+            return VoucherConverter.convertCsvToVoucher(line);
+        }
+
+        @Override
+        public Voucher parse(ByteBuffer line) {
+            return VoucherConverter.convertCsvToVoucher(line);
+        }
+    };
+
     private final VoucherRepository voucherRepository;
+    private final OperationMetrics metrics = new OperationMetrics("service.operations", "voucher");
+    @Value("${settings.importParallelism:0}")
+    private int importParallelism;
 
     public VoucherService(VoucherRepository voucherRepository) {
         this.voucherRepository = voucherRepository;
     }
 
     public Voucher createVoucher(Voucher voucher) {
-        return voucherRepository.insert(voucher);
+        return metrics.record("create", () -> voucherRepository.insert(voucher));
+    }
+
+    public List<Voucher> createVouchers(Collection<Voucher> vouchers) {
+        return metrics.record("createAll", () -> voucherRepository.insertAll(vouchers));
+    }
+
+    public int generateVouchers(VoucherDto voucherDto, int count) {
+        if (count <= 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_VOUCHER_COUNT);
+        }
+        return metrics.record("generate", () -> {
+            for (int start = 0; start < count; start += GENERATION_CHUNK_SIZE) {
+                List<Voucher> chunk = IntStream.range(start, Math.min(count, start + GENERATION_CHUNK_SIZE))
+                        .parallel()
+                        .mapToObj(i -> VoucherConverter.convertDtoToVoucher(voucherDto, UUID.randomUUID()))
+                        .toList();
+                voucherRepository.insertAll(chunk);
+            }
+            return count;
+        });
+    }
+
+    public ImportReport importVouchers(Path source) {
+        Set<UUID> importedIds = ConcurrentHashMap.newKeySet();
+        return metrics.record("import", () -> new CsvImportPipeline<>(
+                IMPORT_PARSER,
+                voucher -> importedIds.add(voucher.getVoucherId()) && voucherRepository.findById(voucher.getVoucherId()).isEmpty(),
+                voucherRepository::insertAll,
+                importParallelism > 0 ? importParallelism : Runtime.getRuntime().availableProcessors(),
+                GENERATION_CHUNK_SIZE
+        ).run(source));
+    }
+
+    public void setImportParallelism(int importParallelism) {
+        this.importParallelism = importParallelism;
+    }
+
+    public double[] discountedPrices(Voucher voucher, long[] prices) {
+        return metrics.record("discount", () -> DiscountEngine.discountedPrices(voucher, prices));
+    }
+
+    public long[] discountedMinorPrices(Voucher voucher, long[] minorPrices) {
+        return metrics.record("discountMinor", () -> DiscountEngine.discountedMinorPrices(voucher, minorPrices));
+    }
+
+    public double[][] discountedPrices(List<Voucher> vouchers, long[] prices) {
+        return metrics.record("discountMatrix", () -> DiscountEngine.discountedPrices(vouchers, prices));
+    }
+
+    public double[] lowestDiscountedPrices(List<Voucher> vouchers, long[] prices) {
+        return metrics.record("discountLowest", () -> DiscountEngine.lowestDiscountedPrices(vouchers, prices));
     }
 
     public List<Voucher> getVouchers() {
-        return voucherRepository.findAll();
+        return metrics.record("list", voucherRepository::findAll);
+    }
+
+    public List<Voucher> getVouchersByType(VoucherType voucherType) {
+        return metrics.record("listByType", () -> voucherRepository.findByType(voucherType));
+    }
+
+    public List<Voucher> getVouchersByDiscountRange(double minDiscountValue, double maxDiscountValue) {
+        return metrics.record("listByDiscountRange", () -> voucherRepository.findByDiscountRange(
+                FixedPoint.fromDouble(minDiscountValue), FixedPoint.fromDouble(maxDiscountValue)));
+    }
+
+    public VoucherPage getVoucherPage(UUID after, int size) {
+        if (size <= 0) {
+            throw new InvalidDataException(ErrorMessage.INVALID_PAGE);
+        }
+        return metrics.record("page", () -> voucherRepository.findPage(after, size));
+    }
+
+    public Stream<Voucher> streamVouchers() {
+        return metrics.record("stream", voucherRepository::streamAll);
+    }
+
+    public Voucher getVoucher(UUID voucherId) {
+        return metrics.record("find", () -> voucherRepository.findById(voucherId))
+                .orElseThrow(() -> new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND));
+    }
+
+    public Voucher updateVoucher(Voucher voucher) {
+        return metrics.record("update", () -> voucherRepository.update(voucher));
+    }
+
+    public void deleteVoucher(UUID voucherId) {
+        if (!metrics.record("delete", () -> voucherRepository.deleteById(voucherId))) {
+            throw new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.devcourse.springbootbasic.application.tool;
+
+import com.devcourse.springbootbasic.application.api.ServerExecutors;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public final class HttpLoadGenerator {
+
+    private static final int DEFAULT_WRITE_PERCENT = 20;
+    private static final int LIST_PAGE_SIZE = 20;
+    private static final int INITIAL_SAMPLE_CAPACITY = 1 << 16;
+
+    private HttpLoadGenerator() {}
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("usage: HttpLoadGenerator <base-url> <concurrency> <duration-seconds> [write-percent]");
+            System.exit(1);
+        }
+        LoadReport report = run(
+                URI.create(args[0]),
+                Integer.parseInt(args[1]),
+                Duration.ofSeconds(Long.parseLong(args[2])),
+                args.length == 4 ? Integer.parseInt(args[3]) : DEFAULT_WRITE_PERCENT
+        );
+        System.out.println(report);
+    }
+
+    public static LoadReport run(URI baseUri, int concurrency, Duration duration, int writePercent)
+            throws InterruptedException, ExecutionException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService workers = ServerExecutors.newRequestExecutor("http-load", concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            List<Future<Worker>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(client, baseUri, writePercent, new SplittableRandom(i));
+                futures.add(workers.submit(() -> worker.run(deadline)));
+            }
+            List<Worker> finished = new ArrayList<>(concurrency);
+            for (Future<Worker> future : futures) {
+                finished.add(future.get());
+            }
+            return LoadReport.of(finished, System.nanoTime() - start);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    public record LoadReport(long requests, long errors, long elapsedNanos, long p50Nanos, long p99Nanos,
+                             long p999Nanos, long maxNanos) {
+
+        private static LoadReport of(List<Worker> workers, long elapsedNanos) {
+            int total = workers.stream().mapToInt(worker -> worker.count).sum();
+            long[] latencies = new long[total];
+            int position = 0;
+            long errors = 0;
+            for (Worker worker : workers) {
+                System.arraycopy(worker.latencies, 0, latencies, position, worker.count);
+                position += worker.count;
+                errors += worker.errors;
+            }
+            Arrays.sort(latencies);
+            return new LoadReport(total, errors, elapsedNanos, percentile(latencies, 0.5), percentile(latencies, 0.99),
+                    percentile(latencies, 0.999), total == 0 ? 0 : latencies[total - 1]);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+        }
+
+        public long requestsPerSecond() {
+            return elapsedNanos == 0 ? requests : requests * 1_000_000_000L / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%d req/s p50=%.3fms p99=%.3fms p999=%.3fms max=%.3fms",
+                    requests, errors, requestsPerSecond(), p50Nanos / 1e6, p99Nanos / 1e6, p999Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+
+    private static final class Worker {
+
+        private final HttpClient client;
+        private final HttpRequest listRequest;
+        private final URI vouchersUri;
+        private final int writePercent;
+        private final SplittableRandom random;
+        private long[] latencies = new long[INITIAL_SAMPLE_CAPACITY];
+        private int count;
+        private long errors;
+
+        private Worker(HttpClient client, URI baseUri, int writePercent, SplittableRandom random) {
+            this.client = client;
+            this.vouchersUri = baseUri.resolve("/vouchers");
+            this.listRequest = HttpRequest.newBuilder(baseUri.resolve("/vouchers?page=0&size=" + LIST_PAGE_SIZE)).GET().build();
+            this.writePercent = writePercent;
+            this.random = random;
+        }
+
+        private Worker run(long deadline) {
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                HttpRequest request = random.nextInt(100) < writePercent ? createRequest() : listRequest;
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        errors++;
+                    }
+                } catch (IOException e) {
+                    errors++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                record(System.nanoTime() - start);
+            }
+            return this;
+        }
+
+        private HttpRequest createRequest() {
+            boolean fixedAmount = random.nextBoolean();
+            String body = String.format("{\"voucherType\":\"%s\",\"discountValue\":\"%d\"}",
+                    fixedAmount ? "FIXED_AMOUNT" : "PERCENT_DISCOUNT", 1 + random.nextInt(fixedAmount ? 10_000 : 100));
+            return HttpRequest.newBuilder(vouchersUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private void record(long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.devcourse.springbootbasic.application.tool;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.BinaryVoucherFile;
+import com.devcourse.springbootbasic.application.io.CsvReader;
+import com.devcourse.springbootbasic.application.io.VoucherEntry;
+import com.devcourse.springbootbasic.application.io.VoucherOffsetIndex;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public final class VoucherFileConverter {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private VoucherFileConverter() {}
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println("usage: VoucherFileConverter (csv-to-binary|binary-to-csv) <source> <target>");
+            System.exit(1);
+        }
+        long converted = switch (args[0]) {
+            case "csv-to-binary" -> csvToBinary(Path.of(args[1]), Path.of(args[2]));
+            case "binary-to-csv" -> binaryToCsv(Path.of(args[1]), Path.of(args[2]));
+            default -> throw new InvalidDataException(ErrorMessage.INVALID_MENU);
+        };
+        System.out.println(converted + " vouchers converted to " + args[2]);
+    }
+
+    public static long csvToBinary(Path source, Path target) {
+        Map<UUID, Voucher> liveVouchers = new LinkedHashMap<>();
+        CsvReader csvReader = new CsvReader();
+        try (Stream<VoucherEntry> entries = csvReader.streamRecords(source.toString(), VoucherCodec.ENTRY_PARSER)) {
+            entries.forEach(entry -> {
+                if (entry.isTombstone()) {
+                    liveVouchers.remove(entry.voucherId());
+                } else {
+                    liveVouchers.put(entry.voucherId(), entry.voucher());
+                }
+            });
+        } finally {
+            csvReader.close();
+        }
+        Path temporary = temporaryOf(target);
+        try {
+            Files.deleteIfExists(temporary);
+            writeBinary(temporary, liveVouchers.values());
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        return liveVouchers.size();
+    }
+
+    public static long binaryToCsv(Path source, Path target) {
+        StringBuilder line = new StringBuilder(64);
+        long converted = 0;
+        Path temporary = temporaryOf(target);
+        try (
+                BinaryVoucherFile binaryVoucherFile = BinaryVoucherFile.open(source);
+                FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                Stream<Voucher> vouchers = binaryVoucherFile.stream()
+        ) {
+            Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            for (Voucher voucher : (Iterable<Voucher>) vouchers::iterator) {
+                line.setLength(0);
+                VoucherCodec.encode(voucher, line);
+                writer.append(line).append('\n');
+                converted++;
+            }
+            writer.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        try {
+            Files.deleteIfExists(VoucherOffsetIndex.indexPathOf(target));
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+        return converted;
+    }
+
+    private static Path temporaryOf(Path target) {
+        return target.resolveSibling(target.getFileName() + ".converting");
+    }
+
+    private static void writeBinary(Path target, Collection<Voucher> vouchers) {
+        try (BinaryVoucherFile binaryVoucherFile = BinaryVoucherFile.open(target)) {
+            List<Voucher> chunk = new ArrayList<>(CHUNK_SIZE);
+            vouchers.forEach(voucher -> {
+                chunk.add(voucher);
+                if (chunk.size() == CHUNK_SIZE) {
+                    binaryVoucherFile.appendAll(chunk);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                binaryVoucherFile.appendAll(chunk);
+            }
+            binaryVoucherFile.force();
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.devcourse.springbootbasic.application.tool;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.CsvReader;
+import com.devcourse.springbootbasic.application.io.ShardLayout;
+import com.devcourse.springbootbasic.application.io.VoucherEntry;
+import com.devcourse.springbootbasic.application.io.VoucherOffsetIndex;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.stream.Stream;
+
+public final class VoucherResharder {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final String TEMPORARY_SUFFIX = ".reshard";
+    private static final String COMMIT_SUFFIX = ".reshard-commit";
+
+    private VoucherResharder() {}
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("usage: VoucherResharder <voucherRecordPath> <shardCount>");
+            System.exit(1);
+        }
+        int shardCount;
+        try {
+            shardCount = Integer.parseInt(args[1]);
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_SHARD_COUNT, e);
+        }
+        long moved = reshard(Path.of(args[0]), shardCount);
+        System.out.println(moved + " vouchers redistributed into " + shardCount + " shards");
+    }
+
+    public static long reshard(Path basePath, int shardCount) {
+        ShardLayout target = new ShardLayout(basePath, shardCount);
+        Path commitPath = basePath.resolveSibling(basePath.getFileName() + COMMIT_SUFFIX);
+        try {
+            if (Files.exists(commitPath)) {
+                String[] committed = Files.readString(commitPath).trim().split(" ");
+                complete(new ShardLayout(basePath, Integer.parseInt(committed[0])), new ShardLayout(basePath, Integer.parseInt(committed[1])), commitPath);
+            }
+            SortedSet<Integer> existing = target.existingShardCounts();
+            existing.remove(shardCount);
+            if (existing.isEmpty()) {
+                return 0;
+            }
+            if (existing.size() > 1) {
+                throw new InvalidDataException(ErrorMessage.SHARD_LAYOUT_MISMATCH);
+            }
+            ShardLayout source = new ShardLayout(basePath, existing.first());
+            long moved = redistribute(source, target);
+            Files.writeString(commitPath, source.shardCount() + " " + target.shardCount());
+            try (FileChannel channel = FileChannel.open(commitPath, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            complete(source, target, commitPath);
+            return moved;
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        }
+    }
+
+    private static void complete(ShardLayout source, ShardLayout target, Path commitPath) throws IOException {
+        for (Path path : source.paths()) {
+            Files.deleteIfExists(VoucherOffsetIndex.indexPathOf(path));
+        }
+        for (Path path : target.paths()) {
+            Path temporaryPath = temporaryPathOf(path);
+            if (Files.exists(temporaryPath)) {
+                Files.deleteIfExists(VoucherOffsetIndex.indexPathOf(path));
+                Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        for (Path path : source.paths()) {
+            if (!target.paths().contains(path)) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.delete(commitPath);
+    }
+
+    private static Path temporaryPathOf(Path path) {
+        return path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    private static long redistribute(ShardLayout source, ShardLayout target) {
+        List<FileChannel> channels = new ArrayList<>();
+        List<ByteBuffer> buffers = new ArrayList<>();
+        CsvReader csvReader = new CsvReader();
+        long moved = 0;
+        try {
+            for (Path path : target.paths()) {
+                channels.add(FileChannel.open(temporaryPathOf(path), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+                buffers.add(ByteBuffer.allocate(BUFFER_SIZE));
+            }
+            for (Path path : source.paths()) {
+                if (!Files.exists(path)) {
+                    continue;
+                }
+                try (Stream<VoucherEntry> entries = csvReader.streamRecords(path.toString(), VoucherCodec.ENTRY_PARSER)) {
+                    for (VoucherEntry entry : (Iterable<VoucherEntry>) entries::iterator) {
+                        int shard = target.shardOf(entry.voucherId());
+                        append(entry, buffers.get(shard), channels.get(shard));
+                        moved += entry.isTombstone() ? 0 : 1;
+                    }
+                }
+            }
+            for (int shard = 0; shard < channels.size(); shard++) {
+                flush(buffers.get(shard), channels.get(shard));
+                channels.get(shard).force(true);
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS, e);
+        } finally {
+            csvReader.close();
+            channels.forEach(VoucherResharder::closeQuietly);
+        }
+        return moved;
+    }
+
+    private static void append(VoucherEntry entry, ByteBuffer buffer, FileChannel channel) throws IOException {
+        int mark = buffer.position();
+        try {
+            VoucherCodec.encode(entry, buffer);
+            buffer.put((byte) '\n');
+        } catch (BufferOverflowException e) {
+            buffer.position(mark);
+            flush(buffer, channel);
+            VoucherCodec.encode(entry, buffer);
+            buffer.put((byte) '\n');
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+}
@@ -0,0 +1,312 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.DiscountEngine;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ColumnarVoucherStore implements VoucherStore {
+
+    private static final byte FREE = -1;
+    private static final int NO_ROW = -1;
+    private static final int MIN_ROWS = 16;
+    private static final int MAX_SLOTS = 1 << 30;
+    private static final int MAX_ROWS = MAX_SLOTS / 2;
+    private static final int READ_BATCH_ROWS = 4096;
+    private static final VoucherType[] VOUCHER_TYPES = VoucherType.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private byte[] types;
+    private long[] scaledValues;
+    private final UuidSlotTable table;
+    private int rowCount;
+    private int freeRow = NO_ROW;
+
+    public ColumnarVoucherStore(int expectedSize) {
+        int rows = Math.max(MIN_ROWS, Math.min(expectedSize, MAX_ROWS));
+        this.mostSignificantBits = new long[rows];
+        this.leastSignificantBits = new long[rows];
+        this.types = new byte[rows];
+        this.scaledValues = new long[rows];
+        this.table = new UuidSlotTable(rows, MAX_SLOTS, false, this::matches);
+    }
+
+    @Override
+    public void put(Voucher voucher) {
+        long msb = voucher.getVoucherId().getMostSignificantBits();
+        long lsb = voucher.getVoucherId().getLeastSignificantBits();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int row = table.find(msb, lsb);
+            if (row != UuidSlotTable.NOT_FOUND) {
+                writeValue(row, voucher);
+                return;
+            }
+            if (table.size() >= MAX_ROWS) {
+                throw new InvalidDataException(ErrorMessage.STORE_CAPACITY_EXCEEDED);
+            }
+            row = allocateRow();
+            mostSignificantBits[row] = msb;
+            leastSignificantBits[row] = lsb;
+            writeValue(row, voucher);
+            table.insert(msb, lsb, row);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(Voucher voucher) {
+        UUID voucherId = voucher.getVoucherId();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int row = table.find(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (row == UuidSlotTable.NOT_FOUND) {
+                return false;
+            }
+            writeValue(row, voucher);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(UUID voucherId) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int row = table.remove(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (row == UuidSlotTable.NOT_FOUND) {
+                return false;
+            }
+            types[row] = FREE;
+            scaledValues[row] = freeRow;
+            freeRow = row;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Voucher> get(UUID voucherId) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int row = table.find(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (row == UuidSlotTable.NOT_FOUND) {
+                return Optional.empty();
+            }
+            VoucherType voucherType = VOUCHER_TYPES[types[row]];
+            return Optional.of(new Voucher(voucherId, voucherType, DiscountValue.ofScaled(voucherType, scaledValues[row])));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(UUID voucherId) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return table.find(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits()) != UuidSlotTable.NOT_FOUND;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Stream<Voucher> stream() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return StreamSupport.stream(new VoucherBatchSpliterator(rowCount, table.size(), READ_BATCH_ROWS, this::readRows), false);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public List<Voucher> findByType(VoucherType voucherType) {
+        byte ordinal = (byte) voucherType.ordinal();
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            byte[] types = this.types;
+            List<Voucher> result = new ArrayList<>();
+            for (int row = 0; row < rowCount; row++) {
+                if (types[row] == ordinal) {
+                    result.add(voucherAt(row));
+                }
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public List<Voucher> findByDiscountRange(long minScaledValue, long maxScaledValue) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            byte[] types = this.types;
+            long[] scaledValues = this.scaledValues;
+            List<Voucher> result = new ArrayList<>();
+            for (int row = 0; row < rowCount; row++) {
+                long scaledValue = scaledValues[row];
+                if (scaledValue >= minScaledValue && scaledValue <= maxScaledValue && types[row] != FREE) {
+                    result.add(voucherAt(row));
+                }
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public int countByType(VoucherType voucherType) {
+        byte ordinal = (byte) voucherType.ordinal();
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            byte[] types = this.types;
+            int count = 0;
+            for (int row = 0; row < rowCount; row++) {
+                count += types[row] == ordinal ? 1 : 0;
+            }
+            return count;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public long maxDiscount(VoucherType voucherType) {
+        byte ordinal = (byte) voucherType.ordinal();
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            byte[] types = this.types;
+            long[] scaledValues = this.scaledValues;
+            long max = 0;
+            for (int row = 0; row < rowCount; row++) {
+                max = Math.max(max, scaledValues[row] & maskOf(types[row], ordinal));
+            }
+            return max;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public long[] lowestDiscountedMinorPrices(long[] minorPrices) {
+        long maxFixedAmount = 0;
+        long maxPercent = 0;
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            byte fixedAmount = (byte) VoucherType.FIXED_AMOUNT.ordinal();
+            byte percentDiscount = (byte) VoucherType.PERCENT_DISCOUNT.ordinal();
+            byte[] types = this.types;
+            long[] scaledValues = this.scaledValues;
+            for (int row = 0; row < rowCount; row++) {
+                byte type = types[row];
+                long scaledValue = scaledValues[row];
+                maxFixedAmount = Math.max(maxFixedAmount, scaledValue & maskOf(type, fixedAmount));
+                maxPercent = Math.max(maxPercent, scaledValue & maskOf(type, percentDiscount));
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return DiscountEngine.lowestDiscountedMinorPrices(maxFixedAmount, maxPercent, minorPrices);
+    }
+
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return table.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public long heapBytes() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            long rows = types.length;
+            return rows * (Long.BYTES * 3 + Byte.BYTES) + table.bytes();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private int readRows(int from, int end, List<Voucher> batch) {
+        int to = Math.min(end, from + READ_BATCH_ROWS);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            for (int row = from; row < to; row++) {
+                if (types[row] != FREE) {
+                    batch.add(voucherAt(row));
+                }
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return to;
+    }
+
+    private boolean matches(int row, long msb, long lsb) {
+        return mostSignificantBits[row] == msb && leastSignificantBits[row] == lsb;
+    }
+
+    private Voucher voucherAt(int row) {
+        VoucherType voucherType = VOUCHER_TYPES[types[row]];
+        return new Voucher(new UUID(mostSignificantBits[row], leastSignificantBits[row]), voucherType, DiscountValue.ofScaled(voucherType, scaledValues[row]));
+    }
+
+    private void writeValue(int row, Voucher voucher) {
+        types[row] = (byte) voucher.getVoucherType().ordinal();
+        scaledValues[row] = voucher.getDiscountValue().getScaledValue();
+    }
+
+    private int allocateRow() {
+        if (freeRow != NO_ROW) {
+            int row = freeRow;
+            freeRow = (int) scaledValues[row];
+            return row;
+        }
+        if (rowCount == types.length) {
+            int rows = (int) Math.min((long) rowCount + (rowCount >> 1), MAX_ROWS);
+            mostSignificantBits = Arrays.copyOf(mostSignificantBits, rows);
+            leastSignificantBits = Arrays.copyOf(leastSignificantBits, rows);
+            types = Arrays.copyOf(types, rows);
+            scaledValues = Arrays.copyOf(scaledValues, rows);
+        }
+        return rowCount++;
+    }
+
+    private static long maskOf(byte type, byte ordinal) {
+        int difference = type ^ ordinal;
+        return (difference | -difference) >> 31 ^ -1L;
+    }
+
+}
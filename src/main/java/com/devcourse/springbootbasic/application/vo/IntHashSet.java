@@ -0,0 +1,83 @@
+package com.devcourse.springbootbasic.application.vo;
+
+public class IntHashSet {
+
+    private static final int EMPTY = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int mask;
+    private int size;
+    private boolean containsEmptyKey;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public boolean add(int key) {
+        if (key == EMPTY) {
+            boolean added = !containsEmptyKey;
+            containsEmptyKey = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+        int index = indexOf(key);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        if (++size > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == EMPTY) {
+            return containsEmptyKey;
+        }
+        int index = indexOf(key);
+        int current;
+        while ((current = keys[index]) != EMPTY) {
+            if (current == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int indexOf(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        keys = new int[oldKeys.length << 1];
+        mask = keys.length - 1;
+        for (int key : oldKeys) {
+            if (key != EMPTY) {
+                int index = indexOf(key);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class LazyVoucherIndex {
+
+    private static final Comparator<Voucher> ID_ORDER = Comparator.comparing(Voucher::getVoucherId);
+    private static final int LOCK_STRIPES = 256;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock[] stripes = new Lock[LOCK_STRIPES];
+    private final Supplier<Stream<Voucher>> source;
+    private volatile VoucherIndex voucherIndex;
+
+    public LazyVoucherIndex(Supplier<Stream<Voucher>> source) {
+        this.source = source;
+        for (int stripe = 0; stripe < LOCK_STRIPES; stripe++) {
+            stripes[stripe] = new ReentrantLock();
+        }
+    }
+
+    public <T> T write(UUID voucherId, Supplier<T> write, Consumer<VoucherIndex> maintain) {
+        boolean[] locked = new boolean[LOCK_STRIPES];
+        locked[stripeOf(voucherId)] = true;
+        return write(locked, write, maintain);
+    }
+
+    public <T> T writeAll(Collection<Voucher> vouchers, Supplier<T> write, Consumer<VoucherIndex> maintain) {
+        boolean[] locked = new boolean[LOCK_STRIPES];
+        vouchers.forEach(voucher -> locked[stripeOf(voucher.getVoucherId())] = true);
+        return write(locked, write, maintain);
+    }
+
+    public VoucherIndex get() {
+        VoucherIndex index = voucherIndex;
+        if (index != null) {
+            return index;
+        }
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (voucherIndex == null) {
+                VoucherIndex built = new VoucherIndex();
+                try (Stream<Voucher> vouchers = source.get()) {
+                    vouchers.sorted(ID_ORDER).forEachOrdered(built::add);
+                }
+                voucherIndex = built;
+            }
+            return voucherIndex;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void reset() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            voucherIndex = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private <T> T write(boolean[] locked, Supplier<T> write, Consumer<VoucherIndex> maintain) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        int acquired = 0;
+        try {
+            for (; acquired < LOCK_STRIPES; acquired++) {
+                if (locked[acquired]) {
+                    stripes[acquired].lock();
+                }
+            }
+            T result = write.get();
+            VoucherIndex index = voucherIndex;
+            if (index != null) {
+                maintain.accept(index);
+            }
+            return result;
+        } finally {
+            for (int stripe = acquired - 1; stripe >= 0; stripe--) {
+                if (locked[stripe]) {
+                    stripes[stripe].unlock();
+                }
+            }
+            readLock.unlock();
+        }
+    }
+
+    private static int stripeOf(UUID voucherId) {
+        return (voucherId.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES;
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.BinaryVoucherFile;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class OffHeapVoucherStore implements VoucherStore {
+
+    private static final int RECORD_SIZE = BinaryVoucherFile.RECORD_SIZE;
+    private static final int TYPE_OFFSET = Long.BYTES * 2;
+    private static final int VALUE_OFFSET = TYPE_OFFSET + Byte.BYTES;
+    private static final byte FREE = -1;
+    private static final int NO_RECORD = -1;
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_RECORDS = 1 << CHUNK_SHIFT;
+    private static final int MAX_SLOTS = 1 << 27;
+    private static final int READ_BATCH_RECORDS = 4096;
+    private static final VoucherType[] VOUCHER_TYPES = VoucherType.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final UuidSlotTable table;
+    private int recordCount;
+    private int freeRecord = NO_RECORD;
+
+    public OffHeapVoucherStore(int expectedSize) {
+        this.table = new UuidSlotTable(expectedSize, MAX_SLOTS, true, this::matches);
+    }
+
+    @Override
+    public void put(Voucher voucher) {
+        long msb = voucher.getVoucherId().getMostSignificantBits();
+        long lsb = voucher.getVoucherId().getLeastSignificantBits();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int record = table.find(msb, lsb);
+            if (record != UuidSlotTable.NOT_FOUND) {
+                writeValue(record, voucher);
+                return;
+            }
+            if (table.size() >= MAX_SLOTS - MAX_SLOTS / 4) {
+                throw new InvalidDataException(ErrorMessage.STORE_CAPACITY_EXCEEDED);
+            }
+            record = allocateRecord();
+            ByteBuffer chunk = chunkOf(record);
+            int offset = offsetOf(record);
+            chunk.putLong(offset, msb).putLong(offset + Long.BYTES, lsb);
+            writeValue(record, voucher);
+            table.insert(msb, lsb, record);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(Voucher voucher) {
+        long msb = voucher.getVoucherId().getMostSignificantBits();
+        long lsb = voucher.getVoucherId().getLeastSignificantBits();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int record = table.find(msb, lsb);
+            if (record == UuidSlotTable.NOT_FOUND) {
+                return false;
+            }
+            writeValue(record, voucher);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(UUID voucherId) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int record = table.remove(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (record == UuidSlotTable.NOT_FOUND) {
+                return false;
+            }
+            ByteBuffer chunk = chunkOf(record);
+            int offset = offsetOf(record);
+            chunk.put(offset + TYPE_OFFSET, FREE).putInt(offset, freeRecord);
+            freeRecord = record;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Voucher> get(UUID voucherId) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int record = table.find(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (record == UuidSlotTable.NOT_FOUND) {
+                return Optional.empty();
+            }
+            ByteBuffer chunk = chunkOf(record);
+            int offset = offsetOf(record);
+            VoucherType voucherType = VOUCHER_TYPES[chunk.get(offset + TYPE_OFFSET)];
+            return Optional.of(new Voucher(voucherId, voucherType, DiscountValue.ofScaled(voucherType, chunk.getLong(offset + VALUE_OFFSET))));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(UUID voucherId) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return table.find(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits()) != UuidSlotTable.NOT_FOUND;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Stream<Voucher> stream() {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * READ_BATCH_RECORDS);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return StreamSupport.stream(new VoucherBatchSpliterator(recordCount, table.size(), READ_BATCH_RECORDS,
+                    (from, end, batch) -> readRecords(buffer, from, end, batch)), false);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return table.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public long offHeapBytes() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return (long) chunks.size() * CHUNK_RECORDS * RECORD_SIZE + table.bytes();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private int readRecords(ByteBuffer buffer, int from, int end, List<Voucher> batch) {
+        int records = Math.min(READ_BATCH_RECORDS, Math.min(end - from, CHUNK_RECORDS - (from & (CHUNK_RECORDS - 1))));
+        buffer.clear().limit(records * RECORD_SIZE);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            chunkOf(from).get(offsetOf(from), buffer.array(), 0, records * RECORD_SIZE);
+        } finally {
+            readLock.unlock();
+        }
+        while (buffer.hasRemaining()) {
+            if (buffer.get(buffer.position() + TYPE_OFFSET) != FREE) {
+                batch.add(BinaryVoucherFile.decode(buffer));
+            } else {
+                buffer.position(buffer.position() + RECORD_SIZE);
+            }
+        }
+        return from + records;
+    }
+
+    private boolean matches(int record, long msb, long lsb) {
+        ByteBuffer chunk = chunkOf(record);
+        int offset = offsetOf(record);
+        return chunk.getLong(offset) == msb && chunk.getLong(offset + Long.BYTES) == lsb;
+    }
+
+    private void writeValue(int record, Voucher voucher) {
+        ByteBuffer chunk = chunkOf(record);
+        int offset = offsetOf(record);
+        chunk.put(offset + TYPE_OFFSET, (byte) voucher.getVoucherType().ordinal())
+                .putLong(offset + VALUE_OFFSET, voucher.getDiscountValue().getScaledValue());
+    }
+
+    private int allocateRecord() {
+        if (freeRecord != NO_RECORD) {
+            int record = freeRecord;
+            freeRecord = chunkOf(record).getInt(offsetOf(record));
+            return record;
+        }
+        if (recordCount == chunks.size() * CHUNK_RECORDS) {
+            chunks.add(ByteBuffer.allocateDirect(CHUNK_RECORDS * RECORD_SIZE));
+        }
+        return recordCount++;
+    }
+
+    private ByteBuffer chunkOf(int record) {
+        return chunks.get(record >>> CHUNK_SHIFT);
+    }
+
+    private static int offsetOf(int record) {
+        return (record & (CHUNK_RECORDS - 1)) * RECORD_SIZE;
+    }
+
+}
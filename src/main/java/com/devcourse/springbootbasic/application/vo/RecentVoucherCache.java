@@ -0,0 +1,47 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class RecentVoucherCache {
+
+    private final int capacity;
+    private final LinkedHashMap<UUID, Voucher> map;
+
+    public RecentVoucherCache(int capacity) {
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Voucher> eldest) {
+                return size() > RecentVoucherCache.this.capacity;
+            }
+        };
+    }
+
+    public synchronized void put(Voucher voucher) {
+        if (capacity > 0) {
+            map.put(voucher.getVoucherId(), voucher);
+        }
+    }
+
+    public synchronized void remove(UUID voucherId) {
+        map.remove(voucherId);
+    }
+
+    public synchronized Optional<Voucher> get(UUID voucherId) {
+        return Optional.ofNullable(map.get(voucherId));
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+final class UuidSlotTable {
+
+    static final int NOT_FOUND = -1;
+
+    private static final long EMPTY = 0;
+
+    private final KeyMatcher keys;
+    private final boolean direct;
+    private final int maxSlots;
+    private LongBuffer slots;
+    private int mask;
+    private int size;
+
+    UuidSlotTable(int expectedSize, int maxSlots, boolean direct, KeyMatcher keys) {
+        this.keys = keys;
+        this.direct = direct;
+        this.maxSlots = maxSlots;
+        int capacity = (int) Math.min(maxSlots, Long.highestOneBit(Math.max(2L, expectedSize * 2L) - 1) << 1);
+        this.slots = allocate(capacity);
+        this.mask = capacity - 1;
+    }
+
+    int find(long msb, long lsb) {
+        int slot = slotOf(msb, lsb);
+        return slot < 0 ? NOT_FOUND : rowOf(slots.get(slot));
+    }
+
+    void insert(long msb, long lsb, int row) {
+        if (size >= (mask + 1) / 2 && mask + 1 < maxSlots) {
+            resize();
+        }
+        place(slots, mask, (long) hash(msb, lsb) << 32 | (row + 1L));
+        size++;
+    }
+
+    int remove(long msb, long lsb) {
+        int slot = slotOf(msb, lsb);
+        if (slot < 0) {
+            return NOT_FOUND;
+        }
+        int row = rowOf(slots.get(slot));
+        deleteSlot(slot);
+        size--;
+        return row;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bytes() {
+        return (long) slots.capacity() * Long.BYTES;
+    }
+
+    private int slotOf(long msb, long lsb) {
+        int hash = hash(msb, lsb);
+        int slot = hash & mask;
+        long entry;
+        while ((entry = slots.get(slot)) != EMPTY) {
+            if ((int) (entry >>> 32) == hash && keys.matches(rowOf(entry), msb, lsb)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            long entry = slots.get(next);
+            if (entry == EMPTY) {
+                break;
+            }
+            int home = (int) (entry >>> 32) & mask;
+            boolean movable = hole <= next
+                    ? home <= hole || home > next
+                    : home <= hole && home > next;
+            if (movable) {
+                slots.put(hole, entry);
+                hole = next;
+            }
+        }
+        slots.put(hole, EMPTY);
+    }
+
+    private void resize() {
+        LongBuffer previous = slots;
+        int capacity = (mask + 1) * 2;
+        slots = allocate(capacity);
+        mask = capacity - 1;
+        for (int slot = 0; slot < previous.capacity(); slot++) {
+            long entry = previous.get(slot);
+            if (entry != EMPTY) {
+                place(slots, mask, entry);
+            }
+        }
+    }
+
+    private LongBuffer allocate(int capacity) {
+        return direct
+                ? ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(capacity);
+    }
+
+    private static void place(LongBuffer slots, int mask, long entry) {
+        int slot = (int) (entry >>> 32) & mask;
+        while (slots.get(slot) != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots.put(slot, entry);
+    }
+
+    private static int rowOf(long entry) {
+        return (int) entry - 1;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long mixed = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ mixed >>> 32);
+    }
+
+    @FunctionalInterface
+    interface KeyMatcher {
+        boolean matches(int row, long msb, long lsb);
+    }
+
+}
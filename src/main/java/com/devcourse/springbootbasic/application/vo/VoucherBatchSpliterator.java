@@ -0,0 +1,45 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+final class VoucherBatchSpliterator extends Spliterators.AbstractSpliterator<Voucher> {
+
+    private final int end;
+    private final BatchReader reader;
+    private final List<Voucher> batch;
+    private int next;
+    private int position;
+
+    VoucherBatchSpliterator(int end, int size, int batchSize, BatchReader reader) {
+        super(size, Spliterator.NONNULL);
+        this.end = end;
+        this.reader = reader;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Voucher> action) {
+        while (position == batch.size()) {
+            if (next >= end) {
+                return false;
+            }
+            batch.clear();
+            position = 0;
+            next = reader.read(next, end, batch);
+        }
+        action.accept(batch.get(position++));
+        return true;
+    }
+
+    @FunctionalInterface
+    interface BatchReader {
+        int read(int from, int end, List<Voucher> batch);
+    }
+
+}
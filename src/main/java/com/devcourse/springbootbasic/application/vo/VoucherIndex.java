@@ -0,0 +1,123 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class VoucherIndex {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final AtomicInteger size = new AtomicInteger();
+    private final ConcurrentSkipListMap<UUID, Voucher> vouchersById = new ConcurrentSkipListMap<>();
+    private final Map<VoucherType, Set<Voucher>> vouchersByType = new EnumMap<>(VoucherType.class);
+    private final ConcurrentSkipListMap<Long, Set<Voucher>> vouchersByDiscount = new ConcurrentSkipListMap<>();
+
+    public VoucherIndex() {
+        for (int stripe = 0; stripe < LOCK_STRIPES; stripe++) {
+            locks[stripe] = new Object();
+        }
+        for (VoucherType voucherType : VoucherType.values()) {
+            vouchersByType.put(voucherType, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public void add(Voucher voucher) {
+        synchronized (lockOf(voucher.getVoucherId())) {
+            Voucher previous = vouchersById.put(voucher.getVoucherId(), voucher);
+            if (previous != null) {
+                unlink(previous);
+            } else {
+                size.incrementAndGet();
+            }
+            link(voucher);
+        }
+    }
+
+    public void replace(Voucher voucher) {
+        synchronized (lockOf(voucher.getVoucherId())) {
+            Voucher previous = vouchersById.replace(voucher.getVoucherId(), voucher);
+            if (previous != null) {
+                unlink(previous);
+                link(voucher);
+            }
+        }
+    }
+
+    public void remove(UUID voucherId) {
+        synchronized (lockOf(voucherId)) {
+            Voucher previous = vouchersById.remove(voucherId);
+            if (previous != null) {
+                unlink(previous);
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    public VoucherPage findPage(UUID after, int size) {
+        Iterator<Voucher> vouchers = (after == null ? vouchersById : vouchersById.tailMap(after, false))
+                .values()
+                .iterator();
+        List<Voucher> candidates = new ArrayList<>(size + 1);
+        while (candidates.size() <= size && vouchers.hasNext()) {
+            candidates.add(vouchers.next());
+        }
+        return VoucherPage.of(candidates, size);
+    }
+
+    public List<Voucher> findByType(VoucherType voucherType) {
+        return List.copyOf(vouchersByType.get(voucherType));
+    }
+
+    public List<Voucher> findByDiscountRange(long minScaledValue, long maxScaledValue) {
+        if (minScaledValue > maxScaledValue) {
+            return List.of();
+        }
+        List<Voucher> result = new ArrayList<>();
+        vouchersByDiscount.subMap(minScaledValue, true, maxScaledValue, true)
+                .values()
+                .forEach(result::addAll);
+        return result;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private Object lockOf(UUID voucherId) {
+        return locks[(voucherId.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+    private void link(Voucher voucher) {
+        vouchersByType.get(voucher.getVoucherType()).add(voucher);
+        discountPostings(voucher.getDiscountValue().getScaledValue()).add(voucher);
+    }
+
+    private void unlink(Voucher voucher) {
+        vouchersByType.get(voucher.getVoucherType()).remove(voucher);
+        vouchersByDiscount.get(voucher.getDiscountValue().getScaledValue()).remove(voucher);
+    }
+
+    private Set<Voucher> discountPostings(long scaledValue) {
+        Set<Voucher> postings = vouchersByDiscount.get(scaledValue);
+        if (postings != null) {
+            return postings;
+        }
+        Set<Voucher> created = ConcurrentHashMap.newKeySet();
+        postings = vouchersByDiscount.putIfAbsent(scaledValue, created);
+        return postings != null ? postings : created;
+    }
+
+}
@@ -2,21 +2,31 @@ package com.devcourse.springbootbasic.application.vo;
 
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class VoucherMap {
 
-    private final Map<UUID, Voucher> map;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ConcurrentMap<UUID, Voucher> map;
 
     public VoucherMap() {
-        this.map = new HashMap<>();
+        this.map = new ConcurrentHashMap<>(INITIAL_CAPACITY);
     }
 
     public VoucherMap(Map<UUID, Voucher> voucherMap) {
-        this.map = voucherMap;
+        this.map = voucherMap instanceof ConcurrentMap<UUID, Voucher> concurrentMap
+                ? concurrentMap
+                : new ConcurrentHashMap<>(voucherMap);
     }
 
     public Voucher addVoucher(Voucher voucher) {
@@ -24,10 +34,41 @@ public class VoucherMap {
         return voucher;
     }
 
+    public boolean replaceVoucher(Voucher voucher) {
+        return map.replace(voucher.getVoucherId(), voucher) != null;
+    }
+
+    public boolean removeVoucher(UUID voucherId) {
+        return map.remove(voucherId) != null;
+    }
+
     public List<Voucher> getAllVouchers() {
+        return List.copyOf(map.values());
+    }
+
+    public Collection<Voucher> vouchers() {
+        return Collections.unmodifiableCollection(map.values());
+    }
+
+    public void forEachVoucher(Consumer<Voucher> action) {
+        map.values().forEach(action);
+    }
+
+    public Stream<Voucher> streamVouchers() {
         return map.values()
-                .stream()
-                .toList();
+                .stream();
+    }
+
+    public Optional<Voucher> findVoucher(UUID voucherId) {
+        return Optional.ofNullable(map.get(voucherId));
+    }
+
+    public boolean containsVoucher(UUID voucherId) {
+        return map.containsKey(voucherId);
+    }
+
+    public int size() {
+        return map.size();
     }
 
 }
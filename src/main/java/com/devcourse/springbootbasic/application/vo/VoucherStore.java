@@ -0,0 +1,23 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface VoucherStore {
+    void put(Voucher voucher);
+
+    boolean replace(Voucher voucher);
+
+    boolean remove(UUID voucherId);
+
+    Optional<Voucher> get(UUID voucherId);
+
+    boolean contains(UUID voucherId);
+
+    Stream<Voucher> stream();
+
+    int size();
+}
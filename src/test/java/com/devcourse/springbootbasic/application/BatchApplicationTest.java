@@ -0,0 +1,100 @@
+package com.devcourse.springbootbasic.application;
+
+import com.devcourse.springbootbasic.application.controller.PlatformController;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherDto;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BatchApplicationTest {
+
+    @Mock
+    PlatformController platformController;
+    BatchApplication batchApplication;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.openMocks(this);
+        batchApplication = new BatchApplication(platformController);
+        given(platformController.createVouchers(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("연속된 생성 명령을 한 번에 저장하고 결과를 순서대로 출력하면 성공")
+    void testCreateInBatch() {
+        var voucher = new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10"));
+        given(platformController.streamVouchers()).willReturn(Stream.of(voucher));
+        var output = new StringWriter();
+
+        int failed = batchApplication.run(new StringReader("""
+                # vouchers
+                create 1 10
+                create PERCENT_DISCOUNT 20
+
+                list 1
+                exit
+                create 1 30
+                """), output);
+
+        ArgumentCaptor<List<Voucher>> captor = ArgumentCaptor.forClass(List.class);
+        verify(platformController, times(1)).createVouchers(captor.capture());
+        assertThat(captor.getValue(), hasSize(2));
+        assertThat(failed, is(0));
+        List<String> lines = output.toString().lines().toList();
+        assertThat(lines, hasSize(5));
+        assertThat(lines.get(0), startsWith("FIXED_AMOUNT"));
+        assertThat(lines.get(1), startsWith("PERCENT_DISCOUNT"));
+        assertThat(lines.get(2), is("Created Vouchers List"));
+        assertThat(lines.get(3), is(voucher.toString()));
+        assertThat(lines.get(4), is("4개의 명령을 실행했습니다. (실패 0건)"));
+    }
+
+    @Test
+    @DisplayName("잘못된 명령은 줄 번호와 함께 실패로 출력하고 다음 명령을 계속 실행하면 성공")
+    void testInvalidCommands() {
+        given(platformController.getVoucher(any())).willThrow(new InvalidDataException("바우처를 찾을 수 없습니다."));
+        given(platformController.generateVouchers(any(VoucherDto.class), anyInt())).willReturn(5);
+        var output = new StringWriter();
+
+        int failed = batchApplication.run(new StringReader("""
+                unknown
+                create 3 10
+                find not-a-uuid
+                find %s
+                generate 1 10 5
+                """.formatted(UUID.randomUUID())), output);
+
+        assertThat(failed, is(4));
+        verify(platformController, never()).createVouchers(anyList());
+        String result = output.toString();
+        assertThat(result, containsString("[1번째 줄]"));
+        assertThat(result, containsString("[2번째 줄]"));
+        assertThat(result, containsString("[3번째 줄]"));
+        assertThat(result, containsString("[4번째 줄] 바우처를 찾을 수 없습니다."));
+        assertThat(result, containsString("5개의 바우처가 생성되었습니다."));
+    }
+
+}
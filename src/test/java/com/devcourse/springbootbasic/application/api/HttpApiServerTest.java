@@ -0,0 +1,186 @@
+package com.devcourse.springbootbasic.application.api;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.controller.PlatformController;
+import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.devcourse.springbootbasic.application.tool.HttpLoadGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+class HttpApiServerTest {
+
+    @Mock
+    PlatformController platformController;
+    HttpApiServer httpApiServer;
+    HttpClient client = HttpClient.newHttpClient();
+    URI baseUri;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.openMocks(this);
+        httpApiServer = new HttpApiServer(platformController);
+        httpApiServer.setWorkerThreads(8);
+        baseUri = URI.create("http://localhost:" + httpApiServer.start(0).getPort());
+        given(platformController.createVoucher(any())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void cleanup() {
+        httpApiServer.close();
+    }
+
+    @Test
+    @DisplayName("바우처 생성 요청 시 201과 생성된 바우처를 반환하면 성공")
+    void testCreateVoucher() throws IOException, InterruptedException {
+        var response = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"voucherType\": \"PERCENT_DISCOUNT\", \"discountValue\": 12.5}"))
+                .build());
+
+        assertThat(response.statusCode(), is(201));
+        assertThat(response.body(), containsString("\"voucherType\":\"PERCENT_DISCOUNT\",\"discountValue\":12.5}"));
+    }
+
+    @Test
+    @DisplayName("잘못된 바우처 생성 요청 시 400과 오류 메시지를 반환하면 성공")
+    void testCreateInvalidVoucher() throws IOException, InterruptedException {
+        var response = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"voucherType\":\"PERCENT_DISCOUNT\",\"discountValue\":\"150\"}"))
+                .build());
+
+        assertThat(response.statusCode(), is(400));
+        assertThat(response.body(), is("{\"error\":\"" + ErrorMessage.INVALID_DISCOUNT_VALUE.getMessageText() + "\"}"));
+    }
+
+    @Test
+    @DisplayName("바우처 수정 요청 시 200, 삭제 요청 시 204를 반환하면 성공")
+    void testUpdateAndDeleteVoucher() throws IOException, InterruptedException {
+        var voucherId = UUID.randomUUID();
+        given(platformController.updateVoucher(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        var updated = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers/" + voucherId))
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"voucherType\":\"FIXED_AMOUNT\",\"discountValue\":300}"))
+                .build());
+        var deleted = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers/" + voucherId)).DELETE().build());
+
+        assertThat(updated.statusCode(), is(200));
+        assertThat(updated.body(), is("{\"voucherId\":\"" + voucherId + "\",\"voucherType\":\"FIXED_AMOUNT\",\"discountValue\":300}"));
+        assertThat(deleted.statusCode(), is(204));
+        verify(platformController).deleteVoucher(voucherId);
+    }
+
+    @Test
+    @DisplayName("바우처 목록을 페이지 단위로 나눠 반환하면 성공")
+    void testListVouchersPage() throws IOException, InterruptedException {
+        given(platformController.streamVouchers()).willAnswer(invocation -> IntStream.range(0, 25)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, i))));
+
+        var first = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers?page=0&size=10")).build());
+        var last = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers?page=2&size=10")).build());
+
+        assertThat(first.statusCode(), is(200));
+        assertThat(first.body(), startsWith("{\"page\":0,\"size\":10,\"items\":[{\"voucherId\":"));
+        assertThat(first.body().split("\"voucherId\"").length - 1, is(10));
+        assertThat(first.body(), endsWith("\"discountValue\":9}],\"hasNext\":true}"));
+        assertThat(last.body().split("\"voucherId\"").length - 1, is(5));
+        assertThat(last.body(), endsWith("\"hasNext\":false}"));
+    }
+
+    @Test
+    @DisplayName("after 커서로 요청하면 다음 커서와 함께 바우처 페이지를 반환하면 성공")
+    void testListVouchersAfterCursor() throws IOException, InterruptedException {
+        var vouchers = IntStream.range(0, 3)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, i)))
+                .toList();
+        var cursor = UUID.randomUUID();
+        given(platformController.getVoucherPage(null, 2)).willReturn(VoucherPage.of(vouchers, 2));
+        given(platformController.getVoucherPage(cursor, 2)).willReturn(VoucherPage.of(vouchers.subList(2, 3), 2));
+
+        var first = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers?size=2&after=")).build());
+        var last = send(HttpRequest.newBuilder(baseUri.resolve("/vouchers?size=2&after=" + cursor)).build());
+
+        assertThat(first.body(), startsWith("{\"size\":2,\"items\":[{\"voucherId\":\"" + vouchers.get(0).getVoucherId()));
+        assertThat(first.body(), endsWith("\"hasNext\":true,\"nextCursor\":\"" + vouchers.get(1).getVoucherId() + "\"}"));
+        assertThat(last.body().split("\"voucherId\"").length - 1, is(1));
+        assertThat(last.body(), endsWith("\"hasNext\":false,\"nextCursor\":null}"));
+    }
+
+    @Test
+    @DisplayName("블랙리스트 고객 목록을 JSON으로 반환하면 성공")
+    void testListBlackCustomers() throws IOException, InterruptedException {
+        given(platformController.streamBlackCustomers()).willReturn(Stream.of(new Customer(1, "say \"hi\"")));
+
+        var response = send(HttpRequest.newBuilder(baseUri.resolve("/customers/blacklist")).build());
+
+        assertThat(response.body(), is("{\"page\":0,\"size\":100,\"items\":[{\"customerId\":1,\"name\":\"say \\\"hi\\\"\"}],\"hasNext\":false}"));
+    }
+
+    @Test
+    @DisplayName("없는 바우처 조회 시 404, 잘못된 페이지 요청 시 400, 오류 코드 없는 같은 문구는 400을 반환하면 성공")
+    void testErrorStatus() throws IOException, InterruptedException {
+        given(platformController.getVoucher(any())).willThrow(new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND));
+        willThrow(new InvalidDataException(ErrorMessage.VOUCHER_NOT_FOUND.getMessageText())).given(platformController).deleteVoucher(any());
+
+        assertThat(send(HttpRequest.newBuilder(baseUri.resolve("/vouchers/" + UUID.randomUUID())).build()).statusCode(), is(404));
+        assertThat(send(HttpRequest.newBuilder(baseUri.resolve("/vouchers?size=5000")).build()).statusCode(), is(400));
+        assertThat(send(HttpRequest.newBuilder(baseUri.resolve("/unknown")).build()).statusCode(), is(404));
+        assertThat(send(HttpRequest.newBuilder(baseUri.resolve("/vouchers/" + UUID.randomUUID())).DELETE().build()).statusCode(), is(400));
+    }
+
+    @Test
+    @DisplayName("목록을 보내는 도중 실패하면 정상 종료된 200 대신 연결을 끊으면 성공")
+    void testAbortStreamingFailure() {
+        given(platformController.streamVouchers()).willAnswer(invocation -> IntStream.range(0, 25)
+                .mapToObj(i -> {
+                    if (i == 10) {
+                        throw new InvalidDataException(ErrorMessage.INVALID_FILE_ACCESS);
+                    }
+                    return new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, DiscountValue.ofScaled(VoucherType.FIXED_AMOUNT, 1_000));
+                }));
+
+        assertThrows(IOException.class, () -> send(HttpRequest.newBuilder(baseUri.resolve("/vouchers")).build()));
+    }
+
+    @Test
+    @DisplayName("부하 생성기로 동시에 요청해도 오류 없이 처리하면 성공")
+    void testLoadGenerator() throws InterruptedException, ExecutionException {
+        given(platformController.streamVouchers()).willAnswer(invocation -> Stream.empty());
+
+        var report = HttpLoadGenerator.run(baseUri, 4, Duration.ofMillis(500), 50);
+
+        assertThat(report.requests(), is(greaterThan(0L)));
+        assertThat(report.errors(), is(0L));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.devcourse.springbootbasic.application.api;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.devcourse.springbootbasic.application.repository.voucher.MemoryVoucherRepository;
+import com.devcourse.springbootbasic.application.service.CustomerService;
+import com.devcourse.springbootbasic.application.service.VoucherService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+class VoucherProtocolServerTest {
+
+    @Mock
+    CustomerService customerService;
+    VoucherProtocolServer server;
+    InetSocketAddress address;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.openMocks(this);
+        server = new VoucherProtocolServer(new VoucherService(new MemoryVoucherRepository()), customerService);
+        server.setWorkerThreads(4);
+        address = new InetSocketAddress("localhost", server.start(0).getPort());
+    }
+
+    @AfterEach
+    void cleanup() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("바우처를 생성하고 아이디와 페이지로 조회하면 성공")
+    void testCreateAndRead() {
+        try (var client = new VoucherProtocolClient(address)) {
+            var created = IntStream.range(0, 15)
+                    .mapToObj(i -> client.create(VoucherType.PERCENT_DISCOUNT, (i + 1) * FixedPoint.SCALE))
+                    .toList();
+
+            var found = client.get(created.get(3).getVoucherId());
+            var first = client.listPage(0, 10);
+            var last = client.listPage(1, 10);
+
+            assertThat(found.getVoucherId(), is(created.get(3).getVoucherId()));
+            assertThat(found.getDiscountValue().getScaledValue(), is(4 * FixedPoint.SCALE));
+            assertThat(first.vouchers(), hasSize(10));
+            assertThat(first.hasNext(), is(true));
+            assertThat(last.vouchers(), hasSize(5));
+            assertThat(last.hasNext(), is(false));
+        }
+    }
+
+    @Test
+    @DisplayName("한 연결에서 블랙리스트 확인 요청을 파이프라이닝해도 순서대로 응답하면 성공")
+    void testPipelinedBlacklistChecks() {
+        given(customerService.isBlacklisted(anyInt())).willAnswer(invocation -> (int) invocation.getArgument(0) % 3 == 0);
+        int[] customerIds = IntStream.range(0, 20_000).toArray();
+
+        try (var client = new VoucherProtocolClient(address)) {
+            boolean[] blacklisted = client.areBlacklisted(customerIds);
+
+            for (int customerId : customerIds) {
+                assertThat(blacklisted[customerId], is(customerId % 3 == 0));
+            }
+            assertThat(client.isBlacklisted(4), is(false));
+        }
+    }
+
+    @Test
+    @DisplayName("파이프라이닝한 블랙리스트 확인 중 하나가 실패해도 남은 응답을 모두 읽고 같은 연결을 계속 사용하면 성공")
+    void testPipelinedBlacklistFailure() {
+        given(customerService.isBlacklisted(anyInt())).willAnswer(invocation -> {
+            if ((int) invocation.getArgument(0) == 7) {
+                throw new InvalidDataException(ErrorMessage.INVALID_CUSTOMER_INFO);
+            }
+            return (int) invocation.getArgument(0) % 3 == 0;
+        });
+
+        try (var client = new VoucherProtocolClient(address)) {
+            var failure = assertThrows(InvalidDataException.class, () -> client.areBlacklisted(IntStream.range(0, 100).toArray()));
+
+            assertThat(failure.getMessage(), is(ErrorMessage.INVALID_CUSTOMER_INFO.getMessageText()));
+            assertThat(client.isBlacklisted(9), is(true));
+            assertThat(client.isBlacklisted(10), is(false));
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 오류 응답을 받고 같은 연결을 계속 사용하면 성공")
+    void testErrorResponse() {
+        try (var client = new VoucherProtocolClient(address)) {
+            var notFound = assertThrows(InvalidDataException.class, () -> client.get(UUID.randomUUID()));
+            var invalidValue = assertThrows(InvalidDataException.class, () -> client.create(VoucherType.PERCENT_DISCOUNT, 101 * FixedPoint.SCALE));
+            var invalidPage = assertThrows(InvalidDataException.class, () -> client.listPage(0, 5_000));
+
+            assertThat(notFound.getMessage(), is(ErrorMessage.VOUCHER_NOT_FOUND.getMessageText()));
+            assertThat(invalidValue.getMessage(), is(ErrorMessage.INVALID_DISCOUNT_VALUE.getMessageText()));
+            assertThat(invalidPage.getMessage(), is(ErrorMessage.INVALID_PAGE.getMessageText()));
+            assertThat(client.create(VoucherType.FIXED_AMOUNT, 100).getVoucherType(), is(VoucherType.FIXED_AMOUNT));
+        }
+    }
+
+    @Test
+    @DisplayName("길이가 올바르지 않은 프레임을 보내면 연결을 끊으면 성공")
+    void testInvalidFrameClosesConnection() throws IOException {
+        try (var channel = SocketChannel.open(address)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 1));
+
+            assertThat(channel.read(ByteBuffer.allocate(16)), is(-1));
+        }
+    }
+
+}
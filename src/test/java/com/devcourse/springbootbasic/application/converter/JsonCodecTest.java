@@ -0,0 +1,49 @@
+package com.devcourse.springbootbasic.application.converter;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonCodecTest {
+
+    @Test
+    @DisplayName("바우처를 JSON으로 변환하면 성공")
+    void testEncodeVoucher() {
+        var voucherId = UUID.randomUUID();
+        var voucher = new Voucher(voucherId, VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10.05"));
+
+        var json = JsonCodec.encode(voucher, new StringBuilder()).toString();
+
+        assertThat(json, is("{\"voucherId\":\"" + voucherId + "\",\"voucherType\":\"FIXED_AMOUNT\",\"discountValue\":10.05}"));
+    }
+
+    @Test
+    @DisplayName("평평한 JSON 객체의 문자열, 숫자, 이스케이프 값을 읽으면 성공")
+    void testDecodeObject() {
+        var fields = JsonCodec.decodeObject(" { \"voucherType\" : \"FIXED\\u0041\", \"discountValue\":10.5, \"memo\":\"a\\\"b\\n\", \"none\":null } ");
+
+        assertThat(fields, hasEntry("voucherType", "FIXEDA"));
+        assertThat(fields, hasEntry("discountValue", "10.5"));
+        assertThat(fields, hasEntry("memo", "a\"b\n"));
+        assertThat(fields, hasEntry("none", null));
+    }
+
+    @ParameterizedTest
+    @DisplayName("올바르지 않은 JSON 객체면 예외 던지기")
+    @ValueSource(strings = {"", "[]", "{\"a\":1", "{\"a\":{\"b\":1}}", "{\"a\":1} x", "{\"a\" 1}", "{\"a\":\"\\x\"}"})
+    void testDecodeInvalidObject(String json) {
+        assertThrows(InvalidDataException.class, () -> JsonCodec.decodeObject(json));
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.devcourse.springbootbasic.application.converter;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VoucherCodecTest {
+
+    static Stream<Arguments> provideVouchers() {
+        return Stream.of(
+                Arguments.of(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "100"))),
+                Arguments.of(new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "2.5"))),
+                Arguments.of(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "123456"))),
+                Arguments.of(new Voucher(new UUID(0, 0), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "0")))
+        );
+    }
+
+    @ParameterizedTest
+    @DisplayName("문자열로 인코딩한 바우처를 다시 디코딩하면 같은 바우처가 되면 성공")
+    @MethodSource("provideVouchers")
+    void testStringRoundTrip(Voucher voucher) {
+        var builder = new StringBuilder();
+        VoucherCodec.encode(voucher, builder);
+        assertThat(builder.toString().split(",")[0], is(voucher.getVoucherId().toString()));
+        assertSameVoucher(VoucherCodec.decode(builder), voucher);
+    }
+
+    @ParameterizedTest
+    @DisplayName("바이트 버퍼로 인코딩한 바우처를 다시 디코딩하면 같은 바우처가 되면 성공")
+    @MethodSource("provideVouchers")
+    void testByteRoundTrip(Voucher voucher) {
+        var buffer = ByteBuffer.allocate(128);
+        VoucherCodec.encode(voucher, buffer);
+        assertSameVoucher(VoucherCodec.decode(buffer.flip()), voucher);
+    }
+
+    @ParameterizedTest
+    @DisplayName("체크섬을 붙인 줄은 검증 후 디코딩하고, 손상되면 예외 던지기")
+    @MethodSource("provideVouchers")
+    void testChecksum(Voucher voucher) {
+        var buffer = ByteBuffer.allocate(128);
+        VoucherCodec.encodeWithChecksum(voucher, buffer);
+        var line = new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII);
+        var corrupted = line.replace(voucher.getVoucherType().name(), voucher.getVoucherType() == VoucherType.FIXED_AMOUNT ? "1" : "2");
+
+        assertSameVoucher(VoucherCodec.decode(line), voucher);
+        assertSameVoucher(VoucherCodec.decode(buffer.flip()), voucher);
+        assertThat(VoucherCodec.isIntact(buffer, true), is(true));
+        assertThat(VoucherCodec.isIntact(ByteBuffer.wrap(corrupted.getBytes(StandardCharsets.US_ASCII)), false), is(false));
+        assertThat(VoucherCodec.isIntact(ByteBuffer.wrap(VoucherConverter.convertVoucherToCsv(voucher).getBytes(StandardCharsets.US_ASCII)), true), is(false));
+        assertThat(VoucherCodec.isIntact(ByteBuffer.wrap(VoucherConverter.convertVoucherToCsv(voucher).getBytes(StandardCharsets.US_ASCII)), false), is(true));
+        assertThrows(InvalidDataException.class, () -> VoucherCodec.decode(corrupted));
+        assertThrows(InvalidDataException.class, () -> VoucherCodec.decode(line.substring(0, line.length() - 1)));
+    }
+
+    @ParameterizedTest
+    @DisplayName("기존 형식의 Csv 줄을 읽으면 성공")
+    @CsvSource(value = {
+            "f2e4ed50-d3a2-428c-aa90-b2159b9ebd2e,FIXED_AMOUNT,10:10.0",
+            "394cb7c9-d6ae-4259-a3c5-801eff2c0526,PERCENT_DISCOUNT,12.5:12.5",
+            "8fd4d2ae-fb6e-4d08-be0f-10c3e1781ccd,1,1e2:100.0",
+            "f6d6fee2-44a-4f0a-87c5-632b35b97855,2,0:0.0",
+            "0c5f3d62-9a8e-4b53-8f57-0d2b6f0e9a41,FIXED_AMOUNT,33.335:33.34"
+    }, delimiter = ':')
+    void testDecodeLegacy(String csvLine, double expected) {
+        var fromString = VoucherCodec.decode(csvLine);
+        var fromBytes = VoucherCodec.decode(ByteBuffer.wrap(csvLine.getBytes(StandardCharsets.UTF_8)));
+        assertThat(fromString.getDiscountValue().getValue(), is(expected));
+        assertSameVoucher(fromBytes, fromString);
+    }
+
+    @ParameterizedTest
+    @DisplayName("잘못된 Csv 줄을 읽으면 실패")
+    @ValueSource(strings = {
+            "not-a-uuid,FIXED_AMOUNT,10",
+            "f2e4ed50-d3a2-428c-aa90-b2159b9ebd2e,UNKNOWN,10",
+            "f2e4ed50-d3a2-428c-aa90-b2159b9ebd2e,PERCENT_DISCOUNT,101",
+            "f2e4ed50-d3a2-428c-aa90-b2159b9ebd2e,FIXED_AMOUNT,-1",
+            "f2e4ed50-d3a2-428c-aa90-b2159b9ebd2e,FIXED_AMOUNT,abc",
+            "f2e4ed50-d3a2-428c-aa90-b2159b9ebd2e"
+    })
+    void testDecodeInvalid(String csvLine) {
+        assertThrows(InvalidDataException.class, () -> VoucherCodec.decode(csvLine));
+    }
+
+    private static void assertSameVoucher(Voucher result, Voucher expected) {
+        assertThat(result.getVoucherId(), is(expected.getVoucherId()));
+        assertThat(result.getVoucherType(), is(expected.getVoucherType()));
+        assertThat(result.getDiscountValue().getValue(), is(expected.getDiscountValue().getValue()));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.devcourse.springbootbasic.application.domain.voucher;
+
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DiscountEngineTest {
+
+    static List<Voucher> vouchers = List.of(
+            new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "100")),
+            new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "15")),
+            new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "250")),
+            new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "40"))
+    );
+
+    static long[] prices(int size) {
+        return new Random(size).longs(size, 1_000, 1_000_000).toArray();
+    }
+
+    @ParameterizedTest
+    @DisplayName("가격 배열에 바우처를 적용한 결과가 단건 계산과 같으면 성공")
+    @ValueSource(ints = {0, 1, 1_000, 200_000})
+    void testDiscountedPrices(int size) {
+        var prices = prices(size);
+        for (Voucher voucher : vouchers) {
+            var result = DiscountEngine.discountedPrices(voucher, prices);
+            for (int i = 0; i < size; i++) {
+                assertThat(result[i], is(voucher.discountedPrice(prices[i])));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("최소 단위 가격 배열에 바우처를 적용한 결과가 단건 정수 계산과 같으면 성공")
+    @ValueSource(ints = {0, 1, 1_000, 200_000})
+    void testDiscountedMinorPrices(int size) {
+        var prices = Arrays.stream(prices(size))
+                .map(price -> price * FixedPoint.SCALE)
+                .toArray();
+        for (Voucher voucher : vouchers) {
+            var result = DiscountEngine.discountedMinorPrices(voucher, prices);
+            for (int i = 0; i < size; i++) {
+                assertThat(result[i], is(voucher.discountedMinorPrice(prices[i])));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 여러 가격에 적용한 결과가 단건 계산과 같으면 성공")
+    void testDiscountedPricesMatrix() {
+        var prices = prices(50_000);
+        var result = DiscountEngine.discountedPrices(vouchers, prices);
+        for (int row = 0; row < vouchers.size(); row++) {
+            for (int i = 0; i < prices.length; i++) {
+                assertThat(result[row][i], is(vouchers.get(row).discountedPrice(prices[i])));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가격별 최저 할인가가 모든 바우처 중 최솟값과 같으면 성공")
+    void testLowestDiscountedPrices() {
+        var prices = prices(100_000);
+        var result = DiscountEngine.lowestDiscountedPrices(vouchers, prices);
+        for (int i = 0; i < prices.length; i++) {
+            double expected = Double.MAX_VALUE;
+            for (Voucher voucher : vouchers) {
+                expected = Math.min(expected, voucher.discountedPrice(prices[i]));
+            }
+            assertThat(result[i], is(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("고정 할인액이 가격보다 크면 최저 할인가를 0으로 계산하면 성공")
+    void testLowestDiscountedMinorPricesFloor() {
+        var result = DiscountEngine.lowestDiscountedMinorPrices(FixedPoint.parse("30"), FixedPoint.parse("10"), new long[]{FixedPoint.parse("20"), FixedPoint.parse("100")});
+        assertThat(result[0], is(0L));
+        assertThat(result[1], is(FixedPoint.parse("70")));
+    }
+
+    @Test
+    @DisplayName("할인 결과가 음수가 되면 예외 던지기")
+    void testDiscountedPricesNegative() {
+        var voucher = new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "500"));
+        assertThrows(InvalidDataException.class, () -> DiscountEngine.discountedPrices(voucher, new long[]{1_000, 100}));
+    }
+
+}
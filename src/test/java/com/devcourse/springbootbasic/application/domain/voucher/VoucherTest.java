@@ -52,6 +52,24 @@ class VoucherTest {
         assertThat(result, is(greaterThanOrEqualTo(0.0)));
     }
 
+    @Test
+    @DisplayName("비율값 바우처는 원가에 할인율을 곱한 가격을 반환하면 성공")
+    void discountedPricePercentValueTest() {
+        var voucher = new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "10"));
+        assertThat(voucher.discountedPrice(1000L), is(900.0));
+    }
+
+    @Test
+    @DisplayName("최소 단위 가격에 바우처를 적용하면 정수로 정확한 가격을 반환하면 성공")
+    void discountedMinorPriceTest() {
+        var percentVoucher = new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "12.5"));
+        var fixedVoucher = new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "0.1"));
+        assertThat(percentVoucher.discountedMinorPrice(1000_00L), is(875_00L));
+        assertThat(fixedVoucher.discountedMinorPrice(30L), is(20L));
+        assertThrows(InvalidDataException.class, () -> fixedVoucher.discountedMinorPrice(5L));
+        assertThrows(InvalidDataException.class, () -> percentVoucher.discountedMinorPrice(-1L));
+    }
+
     @Test
     @DisplayName("비율값 바우처 할인 잘못 적용되었을때 예외 던지기")
     void discountedPricePercentExceptionTest() {
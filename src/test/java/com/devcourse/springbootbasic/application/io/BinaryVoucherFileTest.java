@@ -0,0 +1,150 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import com.devcourse.springbootbasic.application.tool.VoucherFileConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryVoucherFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path filepath;
+    List<Voucher> vouchers;
+
+    @BeforeEach
+    void init() {
+        filepath = tempDir.resolve("voucher_record.bin");
+        vouchers = IntStream.range(0, 100)
+                .mapToObj(i -> i % 2 == 0
+                        ? new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, String.valueOf(i * 10)))
+                        : new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, String.valueOf(i / 2.0))))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("기록한 바우처를 레코드 번호로 바로 읽으면 성공")
+    void testRandomAccess() throws IOException {
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            binaryVoucherFile.appendAll(vouchers);
+            assertSameVoucher(binaryVoucherFile.read(42), vouchers.get(42));
+        }
+        assertThat(Files.size(filepath), is((long) BinaryVoucherFile.HEADER_SIZE + BinaryVoucherFile.RECORD_SIZE * vouchers.size()));
+    }
+
+    @Test
+    @DisplayName("파일을 다시 열어도 모든 바우처를 순서대로 읽으면 성공")
+    void testReopen() {
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            vouchers.forEach(binaryVoucherFile::append);
+        }
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            var result = binaryVoucherFile.stream().toList();
+            assertThat(result.size(), is(vouchers.size()));
+            IntStream.range(0, vouchers.size()).forEach(i -> assertSameVoucher(result.get(i), vouchers.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("레코드가 손상되면 체크섬 검증에 실패")
+    void testCorruption() throws IOException {
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            binaryVoucherFile.appendAll(vouchers);
+        }
+        try (var channel = FileChannel.open(filepath, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), BinaryVoucherFile.HEADER_SIZE + 5);
+        }
+        assertThrows(InvalidDataException.class, () -> BinaryVoucherFile.open(filepath));
+    }
+
+    @Test
+    @DisplayName("레코드를 제자리에서 덮어쓰고 삭제 표시한 뒤 다시 열어도 체크섬이 맞으면 성공")
+    void testOverwriteAndTombstone() {
+        var updated = new Voucher(vouchers.get(3).getVoucherId(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "7"));
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            binaryVoucherFile.appendAll(vouchers);
+            binaryVoucherFile.overwrite(3, updated);
+            assertThat(binaryVoucherFile.tombstone(5), is(true));
+            assertThat(binaryVoucherFile.tombstone(5), is(false));
+            assertThrows(InvalidDataException.class, () -> binaryVoucherFile.overwrite(5, vouchers.get(5)));
+        }
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            assertSameVoucher(binaryVoucherFile.read(3), updated);
+            assertThat(binaryVoucherFile.find(5).isPresent(), is(false));
+            assertThat(binaryVoucherFile.size(), is((long) vouchers.size()));
+            var result = binaryVoucherFile.stream().toList();
+            assertThat(result.size(), is(vouchers.size() - 1));
+            assertSameVoucher(result.get(5), vouchers.get(6));
+            var recordNumbers = new ArrayList<Long>();
+            binaryVoucherFile.forEachRecord((voucher, recordNumber) -> recordNumbers.add(recordNumber));
+            assertThat(recordNumbers.get(5), is(6L));
+        }
+    }
+
+    @Test
+    @DisplayName("이전 버전 헤더의 파일도 검증해서 읽고 새 버전으로 바꾸면 성공")
+    void testLegacyVersion() throws IOException {
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            binaryVoucherFile.appendAll(vouchers);
+        }
+        var legacyChecksum = new CRC32C();
+        var bytes = Files.readAllBytes(filepath);
+        legacyChecksum.update(bytes, BinaryVoucherFile.HEADER_SIZE, bytes.length - BinaryVoucherFile.HEADER_SIZE);
+        try (var channel = FileChannel.open(filepath, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Short.BYTES).putShort(0, (short) 1), Integer.BYTES);
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, legacyChecksum.getValue()), Integer.BYTES + Short.BYTES * 2 + Long.BYTES);
+        }
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            assertThat(binaryVoucherFile.stream().count(), is((long) vouchers.size()));
+            binaryVoucherFile.tombstone(0);
+        }
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            assertThat(binaryVoucherFile.stream().count(), is((long) vouchers.size() - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("CSV와 바이너리 파일을 서로 변환하면 같은 바우처가 되면 성공")
+    void testConvert() {
+        try (var binaryVoucherFile = BinaryVoucherFile.open(filepath)) {
+            binaryVoucherFile.appendAll(vouchers);
+        }
+        var csvPath = tempDir.resolve("voucher_record.csv");
+        var convertedPath = tempDir.resolve("converted.bin");
+        assertThat(VoucherFileConverter.binaryToCsv(filepath, csvPath), is((long) vouchers.size()));
+        assertThat(VoucherFileConverter.csvToBinary(csvPath, convertedPath), is((long) vouchers.size()));
+        try (var binaryVoucherFile = BinaryVoucherFile.open(convertedPath)) {
+            var result = binaryVoucherFile.stream().toList();
+            IntStream.range(0, vouchers.size()).forEach(i -> assertSameVoucher(result.get(i), vouchers.get(i)));
+        }
+    }
+
+    private static void assertSameVoucher(Voucher result, Voucher expected) {
+        assertThat(result.getVoucherId(), is(expected.getVoucherId()));
+        assertThat(result.getVoucherType(), is(expected.getVoucherType()));
+        assertThat(result.getDiscountValue().getValue(), is(expected.getDiscountValue().getValue()));
+    }
+
+}
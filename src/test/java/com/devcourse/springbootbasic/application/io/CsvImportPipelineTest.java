@@ -0,0 +1,91 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.converter.VoucherConverter;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvImportPipelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("여러 청크로 나뉜 CSV를 병렬로 가져와 모든 유효한 행을 저장하면 성공")
+    void testImport() throws IOException {
+        var source = tempDir.resolve("import.csv");
+        var builder = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            VoucherCodec.encode(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, i + 1)), builder);
+            builder.append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        builder.append("invalid,row\n\n");
+        builder.append(UUID.randomUUID()).append(",PERCENT_DISCOUNT,150\n");
+        VoucherCodec.encode(new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, 10)), builder);
+        Files.writeString(source, builder);
+        Collection<Voucher> imported = new ConcurrentLinkedQueue<>();
+
+        var report = new CsvImportPipeline<>(VoucherCodec.PARSER, voucher -> true, imported::addAll, 4, 1_000).run(source);
+
+        assertThat(report.importedRows(), is(50_001L));
+        assertThat(report.rejectedRows(), is(2L));
+        assertThat(imported, hasSize(50_001));
+        assertThat(report.maxReadQueueDepth(), is(greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    @DisplayName("검증을 통과하지 못한 행은 거부 건수로 집계하면 성공")
+    void testImportRejectsInvalidRecords() throws IOException {
+        var source = tempDir.resolve("duplicated.csv");
+        var voucher = new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "100"));
+        var line = VoucherConverter.convertVoucherToCsv(voucher);
+        Files.writeString(source, line + "\n" + line + "\n" + line);
+        var seen = ConcurrentHashMap.<UUID>newKeySet();
+
+        var report = new CsvImportPipeline<>(VoucherCodec.PARSER, v -> seen.add(v.getVoucherId()), vouchers -> {}, 2, 10).run(source);
+
+        assertThat(report.importedRows(), is(1L));
+        assertThat(report.rejectedRows(), is(2L));
+    }
+
+    @Test
+    @DisplayName("없는 파일을 가져오면 예외 던지기")
+    void testImportMissingFile() {
+        var pipeline = new CsvImportPipeline<>(VoucherCodec.PARSER, voucher -> true, vouchers -> {}, 2, 10);
+        assertThrows(InvalidDataException.class, () -> pipeline.run(tempDir.resolve("missing.csv")));
+    }
+
+    @Test
+    @DisplayName("저장 단계가 실패하면 파이프라인을 멈추고 예외 던지기")
+    void testImportSinkFailure() throws IOException {
+        var source = tempDir.resolve("failure.csv");
+        var builder = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            VoucherCodec.encode(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, 10)), builder);
+            builder.append('\n');
+        }
+        Files.writeString(source, builder);
+        var pipeline = new CsvImportPipeline<>(VoucherCodec.PARSER, voucher -> true, vouchers -> {
+            throw new InvalidDataException("sink failure");
+        }, 2, 10);
+        assertThrows(InvalidDataException.class, () -> pipeline.run(source));
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.converter.CustomerConverter;
+import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+class CsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path filepath;
+    CsvReader csvReader;
+
+    @BeforeEach
+    void init() throws IOException {
+        filepath = tempDir.resolve("customer_blacklist.csv");
+        Files.writeString(filepath, "0,사과\r\n1,딸기\n\n2,포도\n3,배");
+        csvReader = new CsvReader();
+    }
+
+    @ParameterizedTest
+    @DisplayName("읽기 모드와 상관없이 같은 레코드를 반환하면 성공")
+    @EnumSource(ReadMode.class)
+    void testStreamRecords(ReadMode readMode) {
+        csvReader.setReadMode(readMode);
+        try (var customers = csvReader.streamRecords(filepath.toString(), CustomerConverter::convertCsvToCustomer)) {
+            assertThat(customers.map(Customer::getName).toList(), contains("사과", "딸기", "포도", "배"));
+        }
+        csvReader.close();
+    }
+
+    @Test
+    @DisplayName("매핑 모드에서 파일이 커지면 추가된 줄까지 읽으면 성공")
+    void testMappedRefresh() throws IOException {
+        csvReader.setReadMode(ReadMode.MAPPED);
+        assertThat(csvReader.streamRecords(filepath.toString(), CustomerConverter::convertCsvToCustomer).toList(), hasSize(4));
+        Files.writeString(filepath, "\n4,수박\n", StandardOpenOption.APPEND);
+        assertThat(csvReader.streamRecords(filepath.toString(), CustomerConverter::convertCsvToCustomer).toList(), hasSize(5));
+        csvReader.close();
+    }
+
+    @ParameterizedTest
+    @DisplayName("읽기 모드와 상관없이 줄의 시작 오프셋으로 레코드를 거르면 성공")
+    @EnumSource(ReadMode.class)
+    void testStreamRecordsWithOffsets(ReadMode readMode) {
+        csvReader.setReadMode(readMode);
+        try (var customers = csvReader.streamRecords(filepath.toString(), CustomerConverter::convertCsvToCustomer, (customer, offset) -> offset == 0 || offset == 29)) {
+            assertThat(customers.map(Customer::getName).toList(), contains("사과", "배"));
+        }
+        csvReader.close();
+    }
+
+    @ParameterizedTest
+    @DisplayName("파일이 이름 바꾸기로 교체되면 새 파일을 읽으면 성공")
+    @EnumSource(ReadMode.class)
+    void testReplacedFile(ReadMode readMode) throws IOException {
+        csvReader.setReadMode(readMode);
+        assertThat(csvReader.streamRecords(filepath.toString(), CustomerConverter::convertCsvToCustomer).toList(), hasSize(4));
+        assertThat(csvReader.readLine(filepath.toString(), 0), is("0,사과"));
+        Path replacement = tempDir.resolve("customer_blacklist.csv.tmp");
+        Files.writeString(replacement, "5,참외\n");
+        Files.move(replacement, filepath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        try (var customers = csvReader.streamRecords(filepath.toString(), CustomerConverter::convertCsvToCustomer)) {
+            assertThat(customers.map(Customer::getName).toList(), contains("참외"));
+        }
+        assertThat(csvReader.readLine(filepath.toString(), 0), is("5,참외"));
+        csvReader.close();
+    }
+
+}
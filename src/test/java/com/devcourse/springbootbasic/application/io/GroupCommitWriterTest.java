@@ -0,0 +1,144 @@
+package com.devcourse.springbootbasic.application.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class GroupCommitWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @DisplayName("여러 스레드가 동시에 추가해도 줄이 섞이지 않고 모두 기록되면 성공")
+    @EnumSource(DurabilityMode.class)
+    void testConcurrentAppend(DurabilityMode durabilityMode) throws IOException {
+        var path = tempDir.resolve("records.csv");
+        var writer = new GroupCommitWriter<String>(path, durabilityMode,
+                (record, buffer) -> buffer.put((record + "\n").getBytes(StandardCharsets.UTF_8)));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Long>> futures = IntStream.range(0, 2_000)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> writer.append("record-" + i), executorService)
+                        .thenCompose(future -> future))
+                .toList();
+        futures.forEach(CompletableFuture::join);
+        writer.close();
+        executorService.shutdown();
+
+        var lines = Files.readAllLines(path);
+        assertThat(lines, hasSize(2_000));
+        assertThat(lines, everyItem(startsWith("record-")));
+        assertThat(writer.getStatistics().recordCount(), is(2_000L));
+        assertThat(writer.getStatistics().batchCount(), is(lessThanOrEqualTo(2_000L)));
+    }
+
+    @ParameterizedTest
+    @DisplayName("추가된 레코드의 오프셋이 파일 내 위치와 일치하면 성공")
+    @EnumSource(DurabilityMode.class)
+    void testAppendOffset(DurabilityMode durabilityMode) throws IOException {
+        var path = tempDir.resolve("offsets.csv");
+        var writer = new GroupCommitWriter<String>(path, durabilityMode,
+                (record, buffer) -> buffer.put((record + "\n").getBytes(StandardCharsets.UTF_8)));
+        long first = writer.append("first").join();
+        long second = writer.append("second").join();
+        writer.close();
+
+        assertThat(first, is(0L));
+        assertThat(second, is(6L));
+        assertThat(Files.readString(path), is("first\nsecond\n"));
+    }
+
+    @ParameterizedTest
+    @DisplayName("여러 레코드를 한 번에 추가하면 하나의 배치로 기록되고 각 오프셋을 반환하면 성공")
+    @EnumSource(DurabilityMode.class)
+    void testAppendAll(DurabilityMode durabilityMode) throws IOException {
+        var path = tempDir.resolve("bulk.csv");
+        var writer = new GroupCommitWriter<String>(path, durabilityMode,
+                (record, buffer) -> buffer.put((record + "\n").getBytes(StandardCharsets.UTF_8)));
+        long[] offsets = writer.appendAll(List.of("a", "bb", "ccc")).join();
+        writer.close();
+
+        assertThat(offsets.length, is(3));
+        assertThat(offsets[0], is(0L));
+        assertThat(offsets[1], is(2L));
+        assertThat(offsets[2], is(5L));
+        assertThat(Files.readString(path), is("a\nbb\nccc\n"));
+        assertThat(writer.getStatistics().batchCount(), is(1L));
+        assertThat(writer.getStatistics().recordCount(), is(3L));
+    }
+
+    @ParameterizedTest
+    @DisplayName("같은 배치의 한 레코드가 인코딩에 실패하면 그 쓰기만 실패하고 나머지는 기록되면 성공")
+    @EnumSource(DurabilityMode.class)
+    void testEncodeFailureFailsOnlyItsWrite(DurabilityMode durabilityMode) throws Exception {
+        var path = tempDir.resolve("partial.csv");
+        var release = new CountDownLatch(1);
+        var writer = new GroupCommitWriter<String>(path, durabilityMode, (record, buffer) -> {
+            if (record.equals("slow")) {
+                await(release);
+            }
+            buffer.put((record + "\n").getBytes(StandardCharsets.UTF_8));
+            if (record.equals("bad")) {
+                throw new IllegalStateException(record);
+            }
+        });
+        var slow = writer.append("slow");
+        var bad = writer.appendAll(List.of("first", "bad"));
+        var good = writer.append("good");
+        release.countDown();
+
+        assertThat(slow.get(5, TimeUnit.SECONDS), is(0L));
+        assertThat(good.get(5, TimeUnit.SECONDS), is(5L));
+        assertThat(bad.isCompletedExceptionally(), is(true));
+        writer.close();
+        assertThat(Files.readString(path), is("slow\ngood\n"));
+    }
+
+    @ParameterizedTest
+    @DisplayName("닫는 도중에 추가한 쓰기도 성공이나 실패로 끝나면 성공")
+    @EnumSource(DurabilityMode.class)
+    void testAppendWhileClosing(DurabilityMode durabilityMode) throws Exception {
+        var writer = new GroupCommitWriter<String>(tempDir.resolve("closing.csv"), durabilityMode,
+                (record, buffer) -> buffer.put((record + "\n").getBytes(StandardCharsets.UTF_8)));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Long>> futures = IntStream.range(0, 2_000)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> writer.append("record-" + i), executorService)
+                        .thenCompose(future -> future))
+                .toList();
+        writer.close();
+        executorService.shutdown();
+
+        for (var future : futures) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException ignored) {
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
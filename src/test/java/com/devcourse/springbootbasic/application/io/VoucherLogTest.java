@@ -0,0 +1,157 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VoucherLogTest {
+
+    static final long SMALL_SEGMENT_SIZE = LogSegment.HEADER_SIZE + LogSegment.RECORD_SIZE * 10L;
+
+    @TempDir
+    Path tempDir;
+
+    List<Voucher> vouchers;
+
+    @BeforeEach
+    void init() {
+        vouchers = IntStream.range(0, 100)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, String.valueOf(i + 1))))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("바우처를 수정하고 삭제하면 최신 상태만 조회되면 성공")
+    void testReplaceAndDelete() {
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.NONE)) {
+            voucherLog.putAll(vouchers);
+            var target = vouchers.get(3);
+            var updated = new Voucher(target.getVoucherId(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "15"));
+
+            assertThat(voucherLog.replace(updated), is(true));
+            assertThat(voucherLog.delete(vouchers.get(4).getVoucherId()), is(true));
+            assertThat(voucherLog.delete(vouchers.get(4).getVoucherId()), is(false));
+            assertThat(voucherLog.replace(vouchers.get(4)), is(false));
+
+            assertThat(voucherLog.get(target.getVoucherId()).orElseThrow().getVoucherType(), is(VoucherType.PERCENT_DISCOUNT));
+            assertThat(voucherLog.get(vouchers.get(4).getVoucherId()).isPresent(), is(false));
+            assertThat(voucherLog.size(), is(vouchers.size() - 1));
+            try (Stream<Voucher> stream = voucherLog.stream()) {
+                assertThat(stream.count(), is((long) vouchers.size() - 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("압축하면 세그먼트 수가 줄고 살아있는 바우처는 그대로 남으면 성공")
+    void testCompaction() {
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.NONE)) {
+            voucherLog.putAll(vouchers);
+            vouchers.subList(0, 50).forEach(voucher -> voucherLog.replace(percentVoucher(voucher.getVoucherId())));
+            vouchers.subList(50, 75).forEach(voucher -> voucherLog.delete(voucher.getVoucherId()));
+            vouchers.subList(75, 100).forEach(voucherLog::put);
+            int segmentCount = voucherLog.segmentCount();
+
+            assertThat(voucherLog.garbageRatio(), is(greaterThan(0.5)));
+            assertThat(voucherLog.compact(), is(true));
+
+            assertThat(voucherLog.segmentCount(), is(lessThan(segmentCount)));
+            assertThat(voucherLog.garbageRatio(), is(0.0));
+            assertLiveVouchers(voucherLog);
+        }
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.NONE)) {
+            assertLiveVouchers(voucherLog);
+        }
+    }
+
+    @Test
+    @DisplayName("스트림이 열려 있으면 압축을 미루고 스트림은 모든 바우처를 반환하면 성공")
+    void testCompactionPostponedWhileStreaming() {
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.NONE)) {
+            voucherLog.putAll(vouchers);
+            vouchers.subList(0, 50).forEach(voucher -> voucherLog.delete(voucher.getVoucherId()));
+            try (Stream<Voucher> stream = voucherLog.stream()) {
+                assertThat(voucherLog.compact(), is(false));
+                assertThat(stream.count(), is(50L));
+            }
+            assertThat(voucherLog.compact(), is(true));
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 세그먼트 끝이 잘려도 다시 열면 온전한 레코드까지 복구하면 성공")
+    void testTornTailRecovery() throws IOException {
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.BATCH)) {
+            voucherLog.putAll(vouchers);
+        }
+        Path last;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            last = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        long size = Files.size(last);
+        try (var channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{LogSegment.PUT, 1, 2, 3, 4, 5, 6}), size);
+        }
+
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.BATCH)) {
+            assertThat(Files.size(last), is(size));
+            assertThat(voucherLog.size(), is(vouchers.size()));
+            voucherLog.delete(vouchers.get(0).getVoucherId());
+        }
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.BATCH)) {
+            assertThat(voucherLog.size(), is(vouchers.size() - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("압축 도중 남은 임시 파일은 다시 열 때 지우면 성공")
+    void testLeftoverCompactionFile() throws IOException {
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.NONE)) {
+            voucherLog.putAll(vouchers);
+        }
+        Path leftover = tempDir.resolve("segment-0000000000000001.log.compact");
+        Files.write(leftover, new byte[LogSegment.HEADER_SIZE + 3]);
+
+        try (var voucherLog = VoucherLog.open(tempDir, SMALL_SEGMENT_SIZE, DurabilityMode.NONE)) {
+            assertThat(Files.exists(leftover), is(false));
+            assertThat(voucherLog.size(), is(vouchers.size()));
+        }
+    }
+
+    private void assertLiveVouchers(VoucherLog voucherLog) {
+        Map<UUID, Voucher> result;
+        try (Stream<Voucher> stream = voucherLog.stream()) {
+            result = stream.collect(Collectors.toMap(Voucher::getVoucherId, Function.identity()));
+        }
+        assertThat(result.size(), is(75));
+        vouchers.subList(0, 50).forEach(voucher -> assertThat(result.get(voucher.getVoucherId()).getVoucherType(), is(VoucherType.PERCENT_DISCOUNT)));
+        vouchers.subList(50, 75).forEach(voucher -> assertThat(voucherLog.contains(voucher.getVoucherId()), is(false)));
+        vouchers.subList(75, 100).forEach(voucher -> assertThat(voucherLog.get(voucher.getVoucherId()).isPresent(), is(true)));
+    }
+
+    private static Voucher percentVoucher(UUID voucherId) {
+        return new Voucher(voucherId, VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "10"));
+    }
+
+}
@@ -0,0 +1,258 @@
+package com.devcourse.springbootbasic.application.io;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VoucherOffsetIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path filepath;
+    List<Voucher> vouchers;
+
+    @BeforeEach
+    void init() {
+        filepath = tempDir.resolve("voucher_record.csv");
+        vouchers = IntStream.range(0, 10)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, String.valueOf(i))))
+                .toList();
+        var csvWriter = new CsvWriter();
+        vouchers.forEach(voucher -> csvWriter.writeFile(filepath.toString(), voucher));
+        csvWriter.close();
+    }
+
+    @Test
+    @DisplayName("저장된 인덱스를 다시 열면 모든 바우처의 오프셋을 찾으면 성공")
+    void testReopen() {
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.size(), is(vouchers.size()));
+        vouchers.forEach(voucher -> assertThat(index.findOffset(voucher.getVoucherId()).isPresent(), is(true)));
+        index.close();
+    }
+
+    @Test
+    @DisplayName("인덱스 파일이 없으면 CSV 파일로부터 다시 만들면 성공")
+    void testRebuild() throws IOException {
+        Files.delete(VoucherOffsetIndex.indexPathOf(filepath));
+        var index = VoucherOffsetIndex.open(filepath);
+        var csvReader = new CsvReader();
+        vouchers.forEach(voucher -> {
+            long offset = index.findOffset(voucher.getVoucherId()).orElseThrow();
+            assertThat(csvReader.readLine(filepath.toString(), offset).startsWith(voucher.getVoucherId().toString()), is(true));
+        });
+        csvReader.close();
+        index.close();
+    }
+
+    @Test
+    @DisplayName("닫을 때 체크포인트를 파일 끝까지 옮기면 성공")
+    void testCheckpoint() throws IOException {
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.getCheckpointPosition(), is(Files.size(filepath)));
+        index.close();
+    }
+
+    @Test
+    @DisplayName("마지막 줄이 잘리거나 체크섬이 맞지 않으면 그 줄부터 잘라내고 복구하면 성공")
+    void testTornTailRecovery() throws IOException {
+        long size = Files.size(filepath);
+        var lines = Files.readAllLines(filepath);
+        var corrupted = lines.get(lines.size() - 1).replace("FIXED_AMOUNT", "PERCENT_DISCOUNT");
+        Files.writeString(filepath, corrupted + "\n" + UUID.randomUUID() + ",FIXED_AM", StandardOpenOption.APPEND);
+
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(Files.size(filepath), is(size));
+        assertThat(index.size(), is(vouchers.size()));
+        index.close();
+
+        var csvWriter = new CsvWriter();
+        var voucher = new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "7"));
+        csvWriter.writeFile(filepath.toString(), voucher);
+        csvWriter.close();
+        var csvReader = new CsvReader();
+        try (var stream = csvReader.streamRecords(filepath.toString(), VoucherCodec.PARSER)) {
+            assertThat(stream.count(), is((long) vouchers.size() + 1));
+        }
+        csvReader.close();
+    }
+
+    @Test
+    @DisplayName("줄바꿈 없이 끝난 마지막 줄은 잘린 것으로 보고 잘라내면 성공")
+    void testUnterminatedLastLine() throws IOException {
+        long size = Files.size(filepath);
+        var voucherId = UUID.randomUUID();
+        Files.writeString(filepath, voucherId + ",FIXED_AMOUNT,10", StandardOpenOption.APPEND);
+
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.findOffset(voucherId).isPresent(), is(false));
+        assertThat(Files.size(filepath), is(size));
+        index.close();
+    }
+
+    @Test
+    @DisplayName("할인 값 중간에서 잘린 마지막 줄은 잘라내고 바우처로 읽지 않으면 성공")
+    void testTailTornInsideDiscountValue() throws IOException {
+        long size = Files.size(filepath);
+        var voucher = new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "125"));
+        var line = checksummedLine(voucher);
+        Files.writeString(filepath, line.substring(0, line.indexOf(",125,") + 3), StandardOpenOption.APPEND);
+
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.findOffset(voucher.getVoucherId()).isPresent(), is(false));
+        assertThat(Files.size(filepath), is(size));
+        index.close();
+        var csvReader = new CsvReader();
+        try (var stream = csvReader.streamRecords(filepath.toString(), VoucherCodec.PARSER)) {
+            assertThat(stream.noneMatch(found -> found.getVoucherId().equals(voucher.getVoucherId())), is(true));
+        }
+        csvReader.close();
+    }
+
+    @Test
+    @DisplayName("체크섬이 있는 파일 뒤에 체크섬 없는 줄이 붙으면 잘라내면 성공")
+    void testMissingChecksumAfterChecksummedLines() throws IOException {
+        long size = Files.size(filepath);
+        var voucherId = UUID.randomUUID();
+        Files.writeString(filepath, voucherId + ",FIXED_AMOUNT,10\n", StandardOpenOption.APPEND);
+
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.findOffset(voucherId).isPresent(), is(false));
+        assertThat(Files.size(filepath), is(size));
+        index.close();
+    }
+
+    @Test
+    @DisplayName("중간 줄이 손상되면 뒤의 정상 줄을 잘라내지 않고 예외 던지기")
+    void testCorruptedMiddleLine() throws IOException {
+        var lines = Files.readAllLines(filepath);
+        lines.set(1, lines.get(1).replace("FIXED_AMOUNT", "PERCENT_DISCOUNT"));
+        Files.write(filepath, lines);
+        long size = Files.size(filepath);
+        Files.delete(VoucherOffsetIndex.indexPathOf(filepath));
+
+        var exception = assertThrows(InvalidDataException.class, () -> VoucherOffsetIndex.open(filepath));
+
+        assertThat(exception.getMessage(), is(ErrorMessage.CORRUPTED_RECORD.getMessageText()));
+        assertThat(Files.size(filepath), is(size));
+        assertThat(Files.readAllLines(filepath).size(), is(vouchers.size()));
+    }
+
+    @Test
+    @DisplayName("손상된 줄 뒤에 잘린 줄만 남아 있으면 손상된 줄부터 잘라내면 성공")
+    void testCorruptedTailRun() throws IOException {
+        long size = Files.size(filepath);
+        var first = checksummedLine(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10")));
+        var second = checksummedLine(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "20")));
+        Files.writeString(filepath, first.replace(",10,", ",11,") + "\n" + second.substring(0, 20), StandardOpenOption.APPEND);
+
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(Files.size(filepath), is(size));
+        assertThat(index.size(), is(vouchers.size()));
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Csv 파일이 다른 내용으로 바뀌면 낡은 인덱스를 버리고 다시 만들면 성공")
+    void testReplacedCsvRebuildsIndex() throws IOException {
+        var replacements = IntStream.range(0, 12)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, String.valueOf(i))))
+                .toList();
+        var csv = new StringBuilder();
+        replacements.forEach(voucher -> csv.append(checksummedLine(voucher)).append('\n'));
+        Files.writeString(filepath, csv);
+
+        var index = VoucherOffsetIndex.open(filepath);
+
+        assertThat(index.size(), is(replacements.size()));
+        vouchers.forEach(voucher -> assertThat(index.findOffset(voucher.getVoucherId()).isPresent(), is(false)));
+        var csvReader = new CsvReader();
+        replacements.forEach(voucher -> {
+            long offset = index.findOffset(voucher.getVoucherId()).orElseThrow();
+            assertThat(csvReader.readLine(filepath.toString(), offset).startsWith(voucher.getVoucherId().toString()), is(true));
+        });
+        csvReader.close();
+        index.close();
+    }
+
+    @Test
+    @DisplayName("인덱스 이후에 추가된 줄은 이어서 색인하면 성공")
+    void testCatchUp() throws IOException {
+        var voucher = new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10"));
+        Files.writeString(filepath, checksummedLine(voucher) + "\n", StandardOpenOption.APPEND);
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.findOffset(voucher.getVoucherId()).isPresent(), is(true));
+        assertThat(index.size(), is(vouchers.size() + 1));
+        index.close();
+    }
+
+    @Test
+    @DisplayName("삭제 표시 줄은 다시 열거나 다시 만들어도 오프셋을 지우면 성공")
+    void testTombstone() throws IOException {
+        var deleted = vouchers.get(0).getVoucherId();
+        var csvWriter = new CsvWriter();
+        csvWriter.delete(filepath.toString(), deleted);
+        csvWriter.close();
+
+        var index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.findOffset(deleted).isPresent(), is(false));
+        assertThat(index.size(), is(vouchers.size() - 1));
+        index.close();
+
+        Files.delete(VoucherOffsetIndex.indexPathOf(filepath));
+        index = VoucherOffsetIndex.open(filepath);
+        assertThat(index.findOffset(deleted).isPresent(), is(false));
+        assertThat(index.size(), is(vouchers.size() - 1));
+        index.close();
+    }
+
+    @Test
+    @DisplayName("한 번에 읽는 크기보다 큰 인덱스 파일도 나눠 읽어 모든 오프셋을 찾으면 성공")
+    void testLoadLargeIndex() throws IOException {
+        var manyVouchers = IntStream.range(0, 70_000)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, DiscountValue.ofScaled(VoucherType.FIXED_AMOUNT, i)))
+                .toList();
+        var csv = new StringBuilder();
+        manyVouchers.forEach(voucher -> csv.append(checksummedLine(voucher)).append('\n'));
+        Files.writeString(filepath, csv);
+        Files.delete(VoucherOffsetIndex.indexPathOf(filepath));
+        VoucherOffsetIndex.open(filepath).close();
+
+        var index = VoucherOffsetIndex.open(filepath);
+
+        assertThat(index.size(), is(manyVouchers.size()));
+        assertThat(index.findOffset(manyVouchers.get(0).getVoucherId()).orElseThrow(), is(0L));
+        assertThat(index.findOffset(manyVouchers.get(manyVouchers.size() - 1).getVoucherId()).orElseThrow(),
+                is(Files.size(filepath) - checksummedLine(manyVouchers.get(manyVouchers.size() - 1)).length() - 1));
+        index.close();
+    }
+
+    private static String checksummedLine(Voucher voucher) {
+        var buffer = ByteBuffer.allocate(128);
+        VoucherCodec.encodeWithChecksum(voucher, buffer);
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.devcourse.springbootbasic.application.metrics;
+
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.io.CsvReader;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsReporterTest {
+
+    @TempDir
+    Path tempDir;
+    SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void cleanup() {
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("연산 시간의 p50, p99, p999와 실패 건수를 보고하면 성공")
+    void testReportOperationLatency() {
+        var metrics = new OperationMetrics("test.operations", "reporter");
+        for (int i = 0; i < 100; i++) {
+            metrics.record("work", () -> {});
+        }
+        assertThrows(InvalidDataException.class, () -> metrics.record("work", () -> {
+            throw new InvalidDataException("failure");
+        }));
+
+        List<String> lines = new MetricsReporter(registry, null).report();
+
+        assertThat(lines, hasItem(allOf(
+                startsWith("test.operations{component=reporter,operation=work}"),
+                containsString("count=101"), containsString("p50="), containsString("p99="), containsString("p999=")
+        )));
+        assertThat(lines, hasItem(allOf(startsWith("test.operations.failures"), containsString("count=1"))));
+    }
+
+    @Test
+    @DisplayName("CSV 파일을 읽은 바이트와 파싱한 행 수를 보고하고 파일로 남기면 성공")
+    void testReportCsvThroughput() throws IOException {
+        var source = tempDir.resolve("metrics.csv");
+        var builder = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            VoucherCodec.encode(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, i + 1)), builder);
+            builder.append('\n');
+        }
+        Files.writeString(source, builder);
+        var csvReader = new CsvReader();
+        try (var vouchers = csvReader.streamRecords(source.toString(), VoucherCodec.PARSER)) {
+            assertThat(vouchers.count(), is(10L));
+        }
+        var dumpPath = tempDir.resolve("report/metrics.txt");
+
+        List<String> lines = new MetricsReporter(registry, dumpPath).report();
+
+        assertThat(lines, hasItem(allOf(startsWith("io.rows.parsed{file=metrics.csv}"), containsString("count=10 "), containsString("rate="))));
+        assertThat(lines, hasItem(allOf(startsWith("io.bytes.read{file=metrics.csv}"), containsString("count=" + Files.size(source)))));
+        assertThat(Files.readAllLines(dumpPath), is(lines));
+    }
+
+}
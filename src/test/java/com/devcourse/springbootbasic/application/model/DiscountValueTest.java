@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.stream.Stream;
 
@@ -35,6 +36,13 @@ class DiscountValueTest {
         assertThrows(InvalidDataException.class, () -> new DiscountValue(voucherType, input));
     }
 
+    @ParameterizedTest
+    @DisplayName("소수점 둘째 자리보다 정밀한 실수 할인값이면 실패")
+    @ValueSource(doubles = {33.335, 0.001, 12.3456})
+    void testExtraPrecisionDouble(double input) {
+        assertThrows(InvalidDataException.class, () -> new DiscountValue(VoucherType.FIXED_AMOUNT, input));
+    }
+
     @ParameterizedTest
     @DisplayName("할인율이 100% 넘으면 실패")
     @MethodSource("provideUpper100DiscountValues")
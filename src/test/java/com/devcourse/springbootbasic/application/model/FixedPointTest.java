@@ -0,0 +1,67 @@
+package com.devcourse.springbootbasic.application.model;
+
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixedPointTest {
+
+    @ParameterizedTest
+    @DisplayName("10진수 문자열을 100배 정수로 정확히 변환하면 성공")
+    @CsvSource({"100, 10000", "0, 0", "10.5, 1050", "10.05, 1005", "2.0, 200", ".5, 50", "-0.1, -10", "33.330, 3333", "1e3, 100000", "' 12 ', 1200"})
+    void testParse(String input, long expected) {
+        assertThat(FixedPoint.parse(input), is(expected));
+    }
+
+    @ParameterizedTest
+    @DisplayName("100배 정수를 기존 CSV와 같은 문자열로 변환하면 성공")
+    @CsvSource({"10000, 100", "0, 0", "1050, 10.5", "1005, 10.05", "-10, -0.1", "-1250, -12.5"})
+    void testFormat(long scaled, String expected) {
+        assertThat(FixedPoint.format(scaled), is(expected));
+        assertThat(FixedPoint.parse(expected), is(scaled));
+    }
+
+    @ParameterizedTest
+    @DisplayName("숫자가 아닌 값을 변환하면 실패")
+    @ValueSource(strings = {"", "-", ".", "abc", "1.2.3", "1,000"})
+    void testParseInvalid(String input) {
+        assertThrows(InvalidDataException.class, () -> FixedPoint.parse(input));
+    }
+
+    @ParameterizedTest
+    @DisplayName("소수점 둘째 자리보다 정밀한 값을 변환하면 반올림하지 않고 실패")
+    @ValueSource(strings = {"33.335", "0.001", "-12.345"})
+    void testParseExtraPrecision(String input) {
+        assertThrows(InvalidDataException.class, () -> FixedPoint.parse(input));
+    }
+
+    @ParameterizedTest
+    @DisplayName("저장된 값은 소수점 둘째 자리로 반올림해 읽으면 성공")
+    @CsvSource({"33.335, 3334", "33.334, 3333", "0.005, 1", "10.5, 1050"})
+    void testParseStored(String input, long expected) {
+        assertThat(FixedPoint.parseStored(input, 0, input.length()), is(expected));
+    }
+
+    @Test
+    @DisplayName("정수 할인율 계산은 반올림된 최소 단위 가격을 반환하면 성공")
+    void testApplyPercent() {
+        assertThat(FixedPoint.applyPercent(1000_00, 10_00), is(900_00L));
+        assertThat(FixedPoint.applyPercent(999, 33_33), is(666L));
+        assertThat(FixedPoint.applyPercent(1, 50_00), is(1L));
+        assertThat(FixedPoint.applyPercent(12345, 100_00), is(0L));
+    }
+
+    @Test
+    @DisplayName("정수 할인율 계산이 넘치면 예외 던지기")
+    void testApplyPercentOverflow() {
+        assertThrows(InvalidDataException.class, () -> FixedPoint.applyPercent(Long.MAX_VALUE, 10_00));
+    }
+
+}
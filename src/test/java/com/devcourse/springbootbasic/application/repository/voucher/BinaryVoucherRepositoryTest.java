@@ -0,0 +1,73 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.constant.ErrorMessage;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryVoucherRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    BinaryVoucherRepository voucherRepository;
+
+    @BeforeEach
+    void init() {
+        voucherRepository = new BinaryVoucherRepository();
+        voucherRepository.setFilepath(tempDir.resolve("voucher_record.bin").toString());
+    }
+
+    @AfterEach
+    void cleanup() {
+        voucherRepository.close();
+    }
+
+    @Test
+    @DisplayName("바우처를 수정하고 삭제한 결과가 파일을 다시 열어도 유지되면 성공")
+    void testUpdateAndDelete() {
+        var updated = createVoucher();
+        var deleted = createVoucher();
+        var kept = createVoucher();
+        voucherRepository.insertAll(List.of(updated, deleted, kept));
+
+        voucherRepository.update(new Voucher(updated.getVoucherId(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "15")));
+        assertThat(voucherRepository.deleteById(deleted.getVoucherId()), is(true));
+        assertThat(voucherRepository.deleteById(deleted.getVoucherId()), is(false));
+        voucherRepository.setFilepath(tempDir.resolve("voucher_record.bin").toString());
+
+        var result = voucherRepository.findById(updated.getVoucherId()).orElseThrow();
+        assertThat(result.getVoucherType(), is(VoucherType.PERCENT_DISCOUNT));
+        assertThat(result.getDiscountValue().getScaledValue(), is(1500L));
+        assertThat(voucherRepository.findById(deleted.getVoucherId()).isPresent(), is(false));
+        assertThat(voucherRepository.findById(kept.getVoucherId()).isPresent(), is(true));
+        assertThat(voucherRepository.findAll().size(), is(2));
+    }
+
+    @Test
+    @DisplayName("없는 바우처를 수정하면 찾을 수 없다는 오류 코드로 실패")
+    void testUpdateMissing() {
+        var exception = assertThrows(InvalidDataException.class, () -> voucherRepository.update(createVoucher()));
+
+        assertThat(exception.getErrorMessage().orElseThrow(), is(ErrorMessage.VOUCHER_NOT_FOUND));
+    }
+
+    private static Voucher createVoucher() {
+        return new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10"));
+    }
+
+}
@@ -1,24 +1,47 @@
 package com.devcourse.springbootbasic.application.repository.voucher;
 
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
 import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
 import com.devcourse.springbootbasic.application.model.VoucherType;
 import com.devcourse.springbootbasic.application.io.CsvReader;
 import com.devcourse.springbootbasic.application.io.CsvWriter;
+import com.devcourse.springbootbasic.application.io.ReadMode;
+import com.devcourse.springbootbasic.application.io.ShardLayout;
+import com.devcourse.springbootbasic.application.io.VoucherOffsetIndex;
+import com.devcourse.springbootbasic.application.tool.VoucherResharder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("default")
 class FileVoucherRepositoryTest {
@@ -60,4 +83,237 @@ class FileVoucherRepositoryTest {
             assertThat(result.get(0), instanceOf(Voucher.class));
         }
     }
+
+    @ParameterizedTest
+    @DisplayName("바우처 스트림은 한 줄씩 읽어 생성한 바우처를 포함하면 성공")
+    @MethodSource("provideVouchers")
+    void testStreamAll(Voucher voucher) {
+        voucherRepository.insert(voucher);
+        try (var stream = voucherRepository.streamAll()) {
+            var found = stream.anyMatch(v -> v.getVoucherId().equals(voucher.getVoucherId()));
+            assertThat(found, is(true));
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("생성한 바우처를 아이디로 조회하면 성공")
+    @MethodSource("provideVouchers")
+    void testFindById(Voucher voucher) {
+        voucherRepository.insert(voucher);
+        var result = voucherRepository.findById(voucher.getVoucherId());
+        assertThat(result.isPresent(), is(true));
+        assertThat(result.get().getVoucherId(), is(voucher.getVoucherId()));
+        assertThat(result.get().getVoucherType(), is(voucher.getVoucherType()));
+    }
+
+    @Test
+    @DisplayName("바우처 여러 개를 한 번에 생성하면 모두 아이디로 조회되면 성공")
+    void testInsertAll() {
+        var vouchers = IntStream.range(0, 100)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, String.valueOf(i + 1))))
+                .toList();
+        var result = voucherRepository.insertAll(vouchers);
+        assertThat(result, hasSize(100));
+        vouchers.forEach(voucher -> assertThat(voucherRepository.findById(voucher.getVoucherId()).isPresent(), is(true)));
+    }
+
+    @Test
+    @DisplayName("없는 아이디로 조회하면 빈 결과 반환")
+    void testFindByIdEmpty() {
+        var result = voucherRepository.findById(UUID.randomUUID());
+        assertThat(result.isEmpty(), is(true));
+    }
+
+    @Test
+    @DisplayName("샤드로 나눠 저장한 바우처를 전체 조회와 아이디 조회로 모두 찾으면 성공")
+    void testShardedInsertAll(@TempDir Path tempDir) {
+        var vouchers = createVouchers(200);
+        var csvWriter = new CsvWriter();
+        var shardedRepository = shardedRepository(tempDir, 4, csvWriter);
+
+        shardedRepository.insertAll(vouchers);
+        shardedRepository.insert(vouchers.get(0));
+
+        assertThat(shardedRepository.findAll(), hasSize(200));
+        assertThat(shardedRepository.findMatching(voucher -> voucher.getVoucherId().equals(vouchers.get(0).getVoucherId())), hasSize(1));
+        vouchers.forEach(voucher -> assertThat(shardedRepository.findById(voucher.getVoucherId()).isPresent(), is(true)));
+        try (var stream = shardedRepository.streamAll()) {
+            assertThat(stream.count(), is(200L));
+        }
+        csvWriter.close();
+    }
+
+    @Test
+    @DisplayName("저장된 샤드 수와 설정이 다르면 예외, 리샤딩하면 모든 바우처를 유지하면 성공")
+    void testReshard(@TempDir Path tempDir) {
+        var vouchers = createVouchers(300);
+        var csvWriter = new CsvWriter();
+        shardedRepository(tempDir, 1, csvWriter).insertAll(vouchers);
+        csvWriter.close();
+
+        assertThrows(InvalidDataException.class, () -> shardedRepository(tempDir, 4, new CsvWriter()));
+        assertThat(VoucherResharder.reshard(tempDir.resolve("vouchers.csv"), 4), is(300L));
+        assertThat(tempDir.resolve("vouchers.csv").toFile().exists(), is(false));
+
+        csvWriter = new CsvWriter();
+        var shardedRepository = shardedRepository(tempDir, 4, csvWriter);
+        assertThat(shardedRepository.findAll(), hasSize(300));
+        vouchers.forEach(voucher -> assertThat(shardedRepository.findById(voucher.getVoucherId()).isPresent(), is(true)));
+        csvWriter.close();
+
+        assertThat(VoucherResharder.reshard(tempDir.resolve("vouchers.csv"), 1), is(300L));
+        csvWriter = new CsvWriter();
+        assertThat(shardedRepository(tempDir, 1, csvWriter).findAll(), hasSize(300));
+        csvWriter.close();
+    }
+
+    @Test
+    @DisplayName("파일에 있던 바우처와 이후 생성한 바우처 모두 타입과 할인값 범위로 조회되면 성공")
+    void testFindByTypeAndDiscountRange(@TempDir Path tempDir) {
+        var csvWriter = new CsvWriter();
+        var shardedRepository = shardedRepository(tempDir, 2, csvWriter);
+        shardedRepository.insertAll(createVouchers(100));
+
+        assertThat(shardedRepository.findByType(VoucherType.FIXED_AMOUNT), hasSize(100));
+        var percentVoucher = new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "15"));
+        shardedRepository.insert(percentVoucher);
+
+        assertThat(shardedRepository.findByType(VoucherType.PERCENT_DISCOUNT), hasSize(1));
+        assertThat(shardedRepository.findByDiscountRange(FixedPoint.parse("10"), FixedPoint.parse("30")), hasSize(22));
+        csvWriter.close();
+    }
+
+    @Test
+    @DisplayName("샤드에 나뉜 바우처를 커서로 끝까지 넘기면 아이디 순서의 전체 목록과 같으면 성공")
+    void testFindPage(@TempDir Path tempDir) {
+        var csvWriter = new CsvWriter();
+        var shardedRepository = shardedRepository(tempDir, 3, csvWriter);
+        var vouchers = createVouchers(50);
+        shardedRepository.insertAll(vouchers);
+
+        List<UUID> voucherIds = new ArrayList<>();
+        VoucherPage page = null;
+        do {
+            page = shardedRepository.findPage(page == null ? null : page.nextCursor(), 7);
+            page.vouchers().forEach(voucher -> voucherIds.add(voucher.getVoucherId()));
+        } while (page.hasNext());
+
+        assertThat(voucherIds, is(vouchers.stream().map(Voucher::getVoucherId).sorted().toList()));
+        csvWriter.close();
+    }
+
+    @Test
+    @DisplayName("깊은 페이지도 파일 전체를 훑지 않고 페이지 크기만큼의 줄만 읽으면 성공")
+    void testDeepPageReadsOnlyPage(@TempDir Path tempDir) {
+        var csvWriter = new CsvWriter();
+        var csvReader = spy(new CsvReader());
+        var repository = new FileVoucherRepository(csvReader, csvWriter);
+        repository.setFilepath(tempDir.resolve("vouchers.csv").toString());
+        repository.setShardCount(3);
+        repository.recover();
+        var voucherIds = createVouchers(200).stream()
+                .map(repository::insert)
+                .map(Voucher::getVoucherId)
+                .sorted()
+                .toList();
+
+        var page = repository.findPage(voucherIds.get(149), 10);
+
+        assertThat(page.vouchers().stream().map(Voucher::getVoucherId).toList(), is(voucherIds.subList(150, 160)));
+        assertThat(page.nextCursor(), is(voucherIds.get(159)));
+        verify(csvReader, times(11)).readLine(anyString(), anyLong());
+        verify(csvReader, never()).streamRecords(anyString(), any(), any());
+        csvWriter.close();
+    }
+
+    @Test
+    @DisplayName("수정과 삭제가 조회에 반영되고 다시 열 때 압축되어도 유지되면 성공")
+    void testUpdateAndDelete(@TempDir Path tempDir) throws IOException {
+        var csvWriter = new CsvWriter();
+        var shardedRepository = shardedRepository(tempDir, 2, csvWriter);
+        var vouchers = createVouchers(10);
+        shardedRepository.insertAll(vouchers);
+        var updated = new Voucher(vouchers.get(0).getVoucherId(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "5"));
+        var deleted = vouchers.get(1).getVoucherId();
+
+        shardedRepository.update(updated);
+        assertThat(shardedRepository.deleteById(deleted), is(true));
+        assertThat(shardedRepository.deleteById(deleted), is(false));
+        assertThrows(InvalidDataException.class, () -> shardedRepository.update(new Voucher(deleted, VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "1"))));
+
+        assertThat(shardedRepository.findById(updated.getVoucherId()).orElseThrow().getVoucherType(), is(VoucherType.PERCENT_DISCOUNT));
+        assertThat(shardedRepository.findById(deleted).isPresent(), is(false));
+        assertThat(shardedRepository.findAll(), hasSize(9));
+        assertThat(shardedRepository.findByType(VoucherType.PERCENT_DISCOUNT).stream().map(Voucher::getVoucherId).toList(), contains(updated.getVoucherId()));
+        csvWriter.close();
+
+        csvWriter = new CsvWriter();
+        csvWriter.setCompactionThreshold(0);
+        var reopened = shardedRepository(tempDir, 2, csvWriter);
+        long lines = 0;
+        for (Path path : new ShardLayout(tempDir.resolve("vouchers.csv"), 2).paths()) {
+            lines += Files.readAllLines(path).size();
+        }
+        assertThat(lines, is(9L));
+        assertThat(reopened.findAll(), hasSize(9));
+        assertThat(reopened.findById(updated.getVoucherId()).orElseThrow().getVoucherType(), is(VoucherType.PERCENT_DISCOUNT));
+        assertThat(reopened.findById(deleted).isPresent(), is(false));
+        csvWriter.close();
+    }
+
+    @ParameterizedTest
+    @DisplayName("같은 아이디를 다시 저장하면 모든 조회 경로가 마지막 줄만 반환하면 성공")
+    @EnumSource(ReadMode.class)
+    void testDuplicateIdLastWins(ReadMode readMode, @TempDir Path tempDir) throws IOException {
+        var vouchers = createVouchers(20);
+        var duplicate = new Voucher(vouchers.get(0).getVoucherId(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "50"));
+        var csvWriter = new CsvWriter();
+        var shardedRepository = shardedRepository(tempDir, 2, csvWriter, readMode);
+        shardedRepository.insertAll(vouchers);
+        shardedRepository.insert(duplicate);
+        assertLastWins(shardedRepository, duplicate, vouchers.size());
+        csvWriter.close();
+
+        csvWriter = new CsvWriter();
+        assertLastWins(shardedRepository(tempDir, 2, csvWriter, readMode), duplicate, vouchers.size());
+        csvWriter.close();
+
+        for (Path path : new ShardLayout(tempDir.resolve("vouchers.csv"), 2).paths()) {
+            Files.delete(VoucherOffsetIndex.indexPathOf(path));
+        }
+        csvWriter = new CsvWriter();
+        assertLastWins(shardedRepository(tempDir, 2, csvWriter, readMode), duplicate, vouchers.size());
+        csvWriter.close();
+    }
+
+    private static void assertLastWins(FileVoucherRepository repository, Voucher latest, int count) {
+        var latestId = latest.getVoucherId();
+        assertThat(repository.findAll(), hasSize(count));
+        assertThat(repository.findMatching(voucher -> voucher.getVoucherId().equals(latestId)).get(0).getVoucherType(), is(VoucherType.PERCENT_DISCOUNT));
+        assertThat(repository.findById(latestId).orElseThrow().getVoucherType(), is(VoucherType.PERCENT_DISCOUNT));
+        assertThat(repository.findByType(VoucherType.PERCENT_DISCOUNT).stream().map(Voucher::getVoucherId).toList(), contains(latestId));
+        assertThat(repository.findByType(VoucherType.FIXED_AMOUNT), hasSize(count - 1));
+        assertThat(repository.findByDiscountRange(FixedPoint.parse("1"), FixedPoint.parse("1")), is(empty()));
+        assertThat(repository.findPage(null, count).vouchers(), hasSize(count));
+    }
+
+    private static FileVoucherRepository shardedRepository(Path directory, int shardCount, CsvWriter csvWriter) {
+        return shardedRepository(directory, shardCount, csvWriter, ReadMode.STREAM);
+    }
+
+    private static FileVoucherRepository shardedRepository(Path directory, int shardCount, CsvWriter csvWriter, ReadMode readMode) {
+        var csvReader = new CsvReader();
+        csvReader.setReadMode(readMode);
+        var repository = new FileVoucherRepository(csvReader, csvWriter);
+        repository.setFilepath(directory.resolve("vouchers.csv").toString());
+        repository.setShardCount(shardCount);
+        repository.recover();
+        return repository;
+    }
+
+    private static List<Voucher> createVouchers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, String.valueOf(i + 1))))
+                .toList();
+    }
 }
\ No newline at end of file
@@ -1,15 +1,29 @@
 package com.devcourse.springbootbasic.application.repository.voucher;
 
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
 import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherPage;
 import com.devcourse.springbootbasic.application.model.VoucherType;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -53,4 +67,123 @@ class MemoryVoucherRepositoryTest {
         assertThat(result.size(), is(greaterThan(0)));
     }
 
+    @Order(3)
+    @ParameterizedTest
+    @DisplayName("생성한 바우처를 아이디로 조회하면 성공")
+    @MethodSource("provideVouchers")
+    void findById(Voucher voucher) {
+        voucherRepository.insert(voucher);
+        var result = voucherRepository.findById(voucher.getVoucherId());
+        assertThat(result.isPresent(), is(true));
+        assertThat(result.get(), is(voucher));
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("여러 스레드가 동시에 생성하고 조회해도 모든 바우처가 저장되면 성공")
+    void concurrentInsertAndList() throws InterruptedException {
+        var repository = new MemoryVoucherRepository();
+        int writers = 8;
+        int vouchersPerWriter = 10_000;
+        var executorService = Executors.newFixedThreadPool(writers + 2);
+        var start = new CountDownLatch(1);
+        var done = new AtomicBoolean(false);
+        var failures = new ConcurrentLinkedQueue<Throwable>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            futures.add(executorService.submit(() -> {
+                await(start);
+                for (int i = 0; i < vouchersPerWriter; i++) {
+                    repository.insert(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10")));
+                }
+            }));
+        }
+        for (int reader = 0; reader < 2; reader++) {
+            executorService.submit(() -> {
+                await(start);
+                while (!done.get()) {
+                    try {
+                        var list = repository.findAll();
+                        long streamed = repository.streamAll().count();
+                        list.forEach(voucher -> assertThat(repository.findById(voucher.getVoucherId()).isPresent(), is(true)));
+                        assertThat(streamed, is(greaterThanOrEqualTo((long) list.size())));
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }
+            });
+        }
+        start.countDown();
+        futures.forEach(MemoryVoucherRepositoryTest::join);
+        done.set(true);
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(failures, is(empty()));
+        assertThat(repository.size(), is(writers * vouchersPerWriter));
+        assertThat(repository.findAll().size(), is(writers * vouchersPerWriter));
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("바우처를 수정하고 삭제하면 조회 결과에 반영되면 성공")
+    void updateAndDelete() {
+        var voucherId = UUID.randomUUID();
+        voucherRepository.insert(new Voucher(voucherId, VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "100")));
+
+        voucherRepository.update(new Voucher(voucherId, VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "5")));
+        assertThat(voucherRepository.findById(voucherId).orElseThrow().getVoucherType(), is(VoucherType.PERCENT_DISCOUNT));
+
+        assertThat(voucherRepository.deleteById(voucherId), is(true));
+        assertThat(voucherRepository.deleteById(voucherId), is(false));
+        assertThat(voucherRepository.findById(voucherId).isPresent(), is(false));
+        Assertions.assertThrows(InvalidDataException.class, () -> voucherRepository.update(new Voucher(voucherId, VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "1"))));
+    }
+
+    @Order(6)
+    @Test
+    @DisplayName("커서로 끝까지 넘긴 페이지가 아이디 순서의 전체 목록과 같으면 성공")
+    void findPage() {
+        voucherRepository.insertAll(IntStream.range(0, 50)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, String.valueOf(i + 1))))
+                .toList());
+        var expected = voucherRepository.findAll().stream()
+                .map(Voucher::getVoucherId)
+                .sorted()
+                .toList();
+        var scanning = Mockito.mock(VoucherRepository.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doAnswer(invocation -> voucherRepository.streamAll()).when(scanning).streamAll();
+
+        assertThat(collectPages(voucherRepository::findPage), is(expected));
+        assertThat(collectPages(scanning::findPage), is(expected));
+    }
+
+    private static List<UUID> collectPages(BiFunction<UUID, Integer, VoucherPage> pageFinder) {
+        List<UUID> voucherIds = new ArrayList<>();
+        VoucherPage page = pageFinder.apply(null, 7);
+        voucherIds.addAll(page.vouchers().stream().map(Voucher::getVoucherId).toList());
+        while (page.hasNext()) {
+            assertThat(page.vouchers(), hasSize(7));
+            page = pageFinder.apply(page.nextCursor(), 7);
+            voucherIds.addAll(page.vouchers().stream().map(Voucher::getVoucherId).toList());
+        }
+        return voucherIds;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void join(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.devcourse.springbootbasic.application.repository.voucher;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TieredVoucherRepositoryTest {
+
+    FileVoucherRepository coldTier;
+    TieredVoucherRepository voucherRepository;
+
+    @BeforeEach
+    void init() {
+        coldTier = mock(FileVoucherRepository.class);
+        given(coldTier.insert(any())).willAnswer(invocation -> invocation.getArgument(0));
+        voucherRepository = new TieredVoucherRepository(coldTier, 2);
+    }
+
+    @Test
+    @DisplayName("생성한 바우처는 파일에 기록하고 메모리에서 조회하면 성공")
+    void testWriteThroughAndHit() {
+        var voucher = createVoucher();
+        voucherRepository.insert(voucher);
+        var result = voucherRepository.findById(voucher.getVoucherId());
+
+        assertThat(result.isPresent(), is(true));
+        verify(coldTier).insert(voucher);
+        verify(coldTier, never()).findById(any());
+        assertThat(voucherRepository.getStatistics().hits(), is(1L));
+    }
+
+    @Test
+    @DisplayName("메모리에서 밀려난 바우처는 파일에서 읽고 다시 올리면 성공")
+    void testEvictionAndPromotion() {
+        var oldest = createVoucher();
+        voucherRepository.insert(oldest);
+        voucherRepository.insert(createVoucher());
+        voucherRepository.insert(createVoucher());
+        given(coldTier.findById(oldest.getVoucherId())).willReturn(Optional.of(oldest));
+
+        assertThat(voucherRepository.findById(oldest.getVoucherId()).isPresent(), is(true));
+        assertThat(voucherRepository.findById(oldest.getVoucherId()).isPresent(), is(true));
+
+        verify(coldTier, times(1)).findById(oldest.getVoucherId());
+        var statistics = voucherRepository.getStatistics();
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.hits(), is(1L));
+        assertThat(statistics.hotSize(), is(2));
+    }
+
+    @Test
+    @DisplayName("파일에서 읽어 올리는 중 삭제되면 삭제가 기다렸다가 메모리에서 지우면 성공")
+    void testPromotionDoesNotResurrectDeleted() throws Exception {
+        var voucher = createVoucher();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        given(coldTier.findById(voucher.getVoucherId())).willAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(voucher);
+        });
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var read = executor.submit(() -> voucherRepository.findById(voucher.getVoucherId()));
+            loading.await();
+            var delete = executor.submit(() -> voucherRepository.deleteById(voucher.getVoucherId()));
+            assertThrows(TimeoutException.class, () -> delete.get(100, TimeUnit.MILLISECONDS));
+            release.countDown();
+            read.get();
+            delete.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        given(coldTier.findById(voucher.getVoucherId())).willReturn(Optional.empty());
+
+        assertThat(voucherRepository.findById(voucher.getVoucherId()).isPresent(), is(false));
+    }
+
+    private static Voucher createVoucher() {
+        return new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10"));
+    }
+
+}
@@ -1,16 +1,26 @@
 package com.devcourse.springbootbasic.application.service;
 
 import com.devcourse.springbootbasic.application.domain.customer.Customer;
+import com.devcourse.springbootbasic.application.io.CsvReader;
 import com.devcourse.springbootbasic.application.repository.customer.CustomerRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CustomerServiceTest {
@@ -35,4 +45,46 @@ class CustomerServiceTest {
         assertThat(blackCustomers.get(0), instanceOf(Customer.class));
     }
 
+    @Test
+    @DisplayName("블랙고객 아이디면 참, 아니면 거짓 반환")
+    void testIsBlacklisted() {
+        var customerRepositoryMock = mock(CustomerRepository.class);
+        given(customerRepositoryMock.streamAll()).willAnswer(invocation -> Stream.of(
+                new Customer(0, "사과"),
+                new Customer(42, "딸기"),
+                new Customer(-7, "포도")
+        ));
+        var sut = new CustomerService(customerRepositoryMock);
+        assertThat(sut.isBlacklisted(0), is(true));
+        assertThat(sut.isBlacklisted(42), is(true));
+        assertThat(sut.isBlacklisted(-7), is(true));
+        assertThat(sut.isBlacklisted(1), is(false));
+        verify(customerRepositoryMock, times(1)).streamAll();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 파일이 바뀌면 다시 읽어 반영하면 성공")
+    void testReloadOnFileChange(@TempDir Path tempDir) throws IOException {
+        var filepath = tempDir.resolve("customer_blacklist.csv");
+        Files.writeString(filepath, "0,사과\n1,딸기\n");
+        var customerRepository = new CustomerRepository(new CsvReader());
+        customerRepository.setFilepath(filepath.toString());
+        var sut = new CustomerService(customerRepository);
+        sut.watchBlacklist();
+        assertThat(sut.isBlacklisted(2), is(false));
+
+        Files.writeString(filepath, "2,포도\n", StandardOpenOption.APPEND);
+        await(() -> sut.isBlacklisted(2));
+        sut.stopWatchingBlacklist();
+        assertThat(sut.isBlacklisted(2), is(true));
+        assertThat(sut.isBlacklisted(0), is(true));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
 }
\ No newline at end of file
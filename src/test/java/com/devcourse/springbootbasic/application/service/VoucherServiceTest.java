@@ -1,25 +1,38 @@
 package com.devcourse.springbootbasic.application.service;
 
+import com.devcourse.springbootbasic.application.converter.VoucherConverter;
 import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.exception.InvalidDataException;
 import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherDto;
 import com.devcourse.springbootbasic.application.model.VoucherType;
 import com.devcourse.springbootbasic.application.repository.voucher.VoucherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
 @ActiveProfiles("dev")
@@ -68,4 +81,63 @@ class VoucherServiceTest {
         assertThat(result.get(0), instanceOf(Voucher.class));
     }
 
+    @ParameterizedTest
+    @DisplayName("아이디로 바우처 조회 테스트")
+    @MethodSource("provideVouchers")
+    void testGetVoucher(Voucher voucher) {
+        given(voucherRepository.findById(voucher.getVoucherId())).willReturn(Optional.of(voucher));
+        var result = voucherService.getVoucher(voucher.getVoucherId());
+        assertThat(result.getVoucherId(), is(voucher.getVoucherId()));
+    }
+
+    @Test
+    @DisplayName("바우처 대량 생성 시 요청한 개수만큼 저장소에 전달하면 성공")
+    void testGenerateVouchers() {
+        var inserted = new AtomicInteger();
+        given(voucherRepository.insertAll(any())).willAnswer(invocation -> {
+            Collection<Voucher> chunk = invocation.getArgument(0);
+            inserted.addAndGet(chunk.size());
+            return List.copyOf(chunk);
+        });
+        var voucherDto = new VoucherDto(VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "100"));
+        var result = voucherService.generateVouchers(voucherDto, 25_000);
+        assertThat(result, is(25_000));
+        assertThat(inserted.get(), is(25_000));
+    }
+
+    @ParameterizedTest
+    @DisplayName("바우처 대량 생성 개수가 1보다 작으면 예외 던지기")
+    @ValueSource(ints = {0, -1})
+    void testGenerateVouchersInvalidCount(int count) {
+        var voucherDto = new VoucherDto(VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "100"));
+        assertThrows(InvalidDataException.class, () -> voucherService.generateVouchers(voucherDto, count));
+    }
+
+    @Test
+    @DisplayName("CSV 파일 가져오기 시 이미 있는 바우처는 제외하고 저장하면 성공")
+    void testImportVouchers(@TempDir Path tempDir) throws IOException {
+        var source = tempDir.resolve("import.csv");
+        var lines = vouchers.stream()
+                .map(VoucherConverter::convertVoucherToCsv)
+                .toList();
+        Files.write(source, lines);
+        var existing = vouchers.get(0);
+        given(voucherRepository.findById(any())).willReturn(Optional.empty());
+        given(voucherRepository.findById(existing.getVoucherId())).willReturn(Optional.of(existing));
+        given(voucherRepository.insertAll(any())).willAnswer(invocation -> List.copyOf(invocation.<Collection<Voucher>>getArgument(0)));
+        voucherService.setImportParallelism(2);
+
+        var report = voucherService.importVouchers(source);
+
+        assertThat(report.importedRows(), is((long) vouchers.size() - 1));
+        assertThat(report.rejectedRows(), is(1L));
+    }
+
+    @Test
+    @DisplayName("없는 바우처 조회 시 예외 던지기")
+    void testGetVoucherNotFound() {
+        given(voucherRepository.findById(any())).willReturn(Optional.empty());
+        assertThrows(InvalidDataException.class, () -> voucherService.getVoucher(UUID.randomUUID()));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.devcourse.springbootbasic.application.tool;
+
+import com.devcourse.springbootbasic.application.converter.VoucherCodec;
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.io.BinaryVoucherFile;
+import com.devcourse.springbootbasic.application.io.CsvReader;
+import com.devcourse.springbootbasic.application.io.CsvWriter;
+import com.devcourse.springbootbasic.application.io.VoucherOffsetIndex;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VoucherFileConverterTest {
+
+    @Test
+    @DisplayName("같은 대상 파일로 다시 변환해도 바우처가 중복되지 않으면 성공")
+    void testCsvToBinaryRerun(@TempDir Path dir) throws IOException {
+        var source = dir.resolve("vouchers.csv");
+        var target = dir.resolve("vouchers.bin");
+        var vouchers = List.of(
+                new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, DiscountValue.ofScaled(VoucherType.FIXED_AMOUNT, 1_000)),
+                new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, DiscountValue.ofScaled(VoucherType.PERCENT_DISCOUNT, 2_000))
+        );
+        var csv = new StringBuilder();
+        vouchers.forEach(voucher -> {
+            VoucherCodec.encode(voucher, csv);
+            csv.append('\n');
+        });
+        Files.writeString(source, csv);
+
+        assertThat(VoucherFileConverter.csvToBinary(source, target), is(2L));
+        assertThat(VoucherFileConverter.csvToBinary(source, target), is(2L));
+
+        try (var binaryVoucherFile = BinaryVoucherFile.open(target)) {
+            assertThat(binaryVoucherFile.size(), is(2L));
+        }
+    }
+
+    @Test
+    @DisplayName("색인된 Csv 파일 위로 되돌려 변환하면 낡은 인덱스를 지우고 모든 바우처를 찾으면 성공")
+    void testBinaryToCsvOverIndexedFile(@TempDir Path dir) {
+        var csvPath = dir.resolve("voucher_record.csv");
+        var binaryPath = dir.resolve("vouchers.bin");
+        var vouchers = IntStream.range(0, 5)
+                .mapToObj(i -> new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, DiscountValue.ofScaled(VoucherType.FIXED_AMOUNT, (i + 1) * 100L)))
+                .toList();
+        var csvWriter = new CsvWriter();
+        vouchers.forEach(voucher -> csvWriter.writeFile(csvPath.toString(), voucher));
+        csvWriter.close();
+        VoucherFileConverter.csvToBinary(csvPath, binaryPath);
+
+        assertThat(VoucherFileConverter.binaryToCsv(binaryPath, csvPath), is(5L));
+
+        assertThat(Files.exists(VoucherOffsetIndex.indexPathOf(csvPath)), is(false));
+        assertThat(Files.exists(csvPath.resolveSibling("voucher_record.csv.converting")), is(false));
+        var index = VoucherOffsetIndex.open(csvPath);
+        var csvReader = new CsvReader();
+        vouchers.forEach(voucher -> {
+            long offset = index.findOffset(voucher.getVoucherId()).orElseThrow();
+            assertThat(csvReader.readLine(csvPath.toString(), offset).startsWith(voucher.getVoucherId().toString()), is(true));
+        });
+        csvReader.close();
+        index.close();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ColumnarVoucherStoreTest {
+
+    @Test
+    @DisplayName("추가, 수정, 삭제 후 타입별 조회, 집계, 할인 범위 조회가 HashMap과 같으면 성공")
+    void testScansMatchHashMap() {
+        var store = new ColumnarVoucherStore(4);
+        var expected = VoucherStoreTest.applyRandomOperations(store, new Random(7), 50_000);
+
+        for (var voucherType : VoucherType.values()) {
+            var matching = expected.values().stream()
+                    .filter(voucher -> voucher.getVoucherType() == voucherType)
+                    .toList();
+            assertThat(store.countByType(voucherType), is(matching.size()));
+            assertThat(store.findByType(voucherType).stream().map(Voucher::getVoucherId).collect(Collectors.toSet()),
+                    is(matching.stream().map(Voucher::getVoucherId).collect(Collectors.toSet())));
+            assertThat(store.maxDiscount(voucherType), is(matching.stream().mapToLong(voucher -> voucher.getDiscountValue().getScaledValue()).max().orElse(0)));
+        }
+        assertThat(store.findByDiscountRange(1_000, 2_000).stream().map(Voucher::getVoucherId).collect(Collectors.toSet()),
+                is(expected.values().stream()
+                        .filter(voucher -> voucher.getDiscountValue().getScaledValue() >= 1_000 && voucher.getDiscountValue().getScaledValue() <= 2_000)
+                        .map(Voucher::getVoucherId)
+                        .collect(Collectors.toSet())));
+    }
+
+    @Test
+    @DisplayName("저장된 바우처 중 가장 큰 할인을 적용한 가격을 계산하면 성공")
+    void testLowestDiscountedMinorPrices() {
+        var store = new ColumnarVoucherStore(4);
+        store.put(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, DiscountValue.ofScaled(VoucherType.FIXED_AMOUNT, 1_000)));
+        store.put(new Voucher(UUID.randomUUID(), VoucherType.FIXED_AMOUNT, DiscountValue.ofScaled(VoucherType.FIXED_AMOUNT, 3_000)));
+        store.put(new Voucher(UUID.randomUUID(), VoucherType.PERCENT_DISCOUNT, DiscountValue.ofScaled(VoucherType.PERCENT_DISCOUNT, 1_000)));
+
+        var result = store.lowestDiscountedMinorPrices(new long[]{10_000, 50_000});
+
+        assertThat(result[0], is(7_000L));
+        assertThat(result[1], is(45_000L));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class IntHashSetTest {
+
+    @Test
+    @DisplayName("추가한 정수만 포함하고 크기가 늘어나도 유지되면 성공")
+    void testAddAndContains() {
+        var random = new Random(42);
+        var expected = new HashSet<Integer>();
+        var intHashSet = new IntHashSet(4);
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt();
+            assertThat(intHashSet.add(key), is(expected.add(key)));
+        }
+        intHashSet.add(0);
+        expected.add(0);
+
+        assertThat(intHashSet.size(), is(expected.size()));
+        expected.forEach(key -> assertThat(intHashSet.contains(key), is(true)));
+        random.ints(10_000)
+                .filter(key -> !expected.contains(key))
+                .forEach(key -> assertThat(intHashSet.contains(key), is(false)));
+    }
+
+}
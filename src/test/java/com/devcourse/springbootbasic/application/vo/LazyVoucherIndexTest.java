@@ -0,0 +1,53 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+class LazyVoucherIndexTest {
+
+    @Test
+    @DisplayName("같은 아이디를 동시에 쓰면 저장소와 인덱스에 같은 순서로 반영되면 성공")
+    void testWriteIsAtomicPerVoucher() throws InterruptedException {
+        var voucherId = UUID.randomUUID();
+        var first = new Voucher(voucherId, VoucherType.FIXED_AMOUNT, new DiscountValue(VoucherType.FIXED_AMOUNT, "10"));
+        var second = new Voucher(voucherId, VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "20"));
+        Map<UUID, Voucher> vouchers = new ConcurrentHashMap<>();
+        var voucherIndex = new LazyVoucherIndex(() -> vouchers.values().stream());
+        voucherIndex.get();
+        var firstWritten = new CountDownLatch(1);
+
+        var firstWriter = CompletableFuture.runAsync(() -> voucherIndex.write(voucherId, () -> {
+            vouchers.put(voucherId, first);
+            firstWritten.countDown();
+            sleep();
+            return first;
+        }, index -> index.add(first)));
+        firstWritten.await(5, TimeUnit.SECONDS);
+        voucherIndex.write(voucherId, () -> vouchers.put(voucherId, second), index -> index.add(second));
+        firstWriter.join();
+
+        assertThat(voucherIndex.get().findByType(VoucherType.PERCENT_DISCOUNT), contains(vouchers.get(voucherId)));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
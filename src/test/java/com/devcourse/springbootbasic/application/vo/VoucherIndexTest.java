@@ -0,0 +1,66 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.FixedPoint;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VoucherIndexTest {
+
+    @Test
+    @DisplayName("타입별, 할인값 범위별 조회가 전체를 걸러낸 결과와 같으면 성공")
+    void testFindByTypeAndDiscountRange() {
+        var voucherIndex = new VoucherIndex();
+        var vouchers = IntStream.range(0, 1000)
+                .mapToObj(i -> i % 2 == 0
+                        ? voucher(VoucherType.FIXED_AMOUNT, String.valueOf(i))
+                        : voucher(VoucherType.PERCENT_DISCOUNT, String.valueOf(i % 100)))
+                .toList();
+        vouchers.parallelStream().forEach(voucherIndex::add);
+
+        assertThat(voucherIndex.findByType(VoucherType.PERCENT_DISCOUNT), hasSize(500));
+        var result = voucherIndex.findByDiscountRange(FixedPoint.parse("10"), FixedPoint.parse("30"));
+        var expected = vouchers.stream()
+                .filter(voucher -> voucher.getDiscountValue().getValue() >= 10 && voucher.getDiscountValue().getValue() <= 30)
+                .toArray();
+        assertThat(result, containsInAnyOrder(expected));
+        assertThat(result.stream().map(voucher -> voucher.getDiscountValue().getScaledValue()).toList(),
+                is(result.stream().map(voucher -> voucher.getDiscountValue().getScaledValue()).sorted().toList()));
+        assertThat(voucherIndex.findByDiscountRange(FixedPoint.parse("30"), FixedPoint.parse("10")), is(empty()));
+    }
+
+    @Test
+    @DisplayName("수정하거나 삭제한 바우처는 예전 타입과 할인값으로 조회되지 않으면 성공")
+    void testReplaceAndRemove() {
+        var voucherIndex = new VoucherIndex();
+        var original = voucher(VoucherType.FIXED_AMOUNT, "100");
+        var removed = voucher(VoucherType.FIXED_AMOUNT, "100");
+        voucherIndex.add(original);
+        voucherIndex.add(removed);
+
+        var updated = new Voucher(original.getVoucherId(), VoucherType.PERCENT_DISCOUNT, new DiscountValue(VoucherType.PERCENT_DISCOUNT, "20"));
+        voucherIndex.replace(updated);
+        voucherIndex.remove(removed.getVoucherId());
+        voucherIndex.replace(removed);
+
+        assertThat(voucherIndex.size(), is(1));
+        assertThat(voucherIndex.findByType(VoucherType.FIXED_AMOUNT), is(empty()));
+        assertThat(voucherIndex.findByType(VoucherType.PERCENT_DISCOUNT), is(List.of(updated)));
+        assertThat(voucherIndex.findByDiscountRange(FixedPoint.parse("100"), FixedPoint.parse("100")), is(empty()));
+        assertThat(voucherIndex.findByDiscountRange(FixedPoint.parse("20"), FixedPoint.parse("20")), is(List.of(updated)));
+    }
+
+    private static Voucher voucher(VoucherType voucherType, String discountValue) {
+        return new Voucher(UUID.randomUUID(), voucherType, new DiscountValue(voucherType, discountValue));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.devcourse.springbootbasic.application.vo;
+
+import com.devcourse.springbootbasic.application.domain.voucher.Voucher;
+import com.devcourse.springbootbasic.application.model.DiscountValue;
+import com.devcourse.springbootbasic.application.model.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VoucherStoreTest {
+
+    static Stream<VoucherStore> stores() {
+        return Stream.of(new OffHeapVoucherStore(4), new ColumnarVoucherStore(4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("stores")
+    @DisplayName("추가, 수정, 삭제를 섞어도 HashMap과 같은 바우처를 조회하면 성공")
+    void testMatchesHashMap(VoucherStore store) {
+        var random = new Random(42);
+        var expected = applyRandomOperations(store, random, 200_000);
+
+        assertThat(store.size(), is(expected.size()));
+        expected.values().forEach(voucher -> {
+            var found = store.get(voucher.getVoucherId()).orElseThrow();
+            assertThat(found.getVoucherType(), is(voucher.getVoucherType()));
+            assertThat(found.getDiscountValue().getScaledValue(), is(voucher.getDiscountValue().getScaledValue()));
+        });
+        try (var vouchers = store.stream()) {
+            assertThat(vouchers.map(Voucher::getVoucherId).collect(Collectors.toSet()), is(expected.keySet()));
+        }
+        assertThat(store.get(UUID.randomUUID()).isPresent(), is(false));
+        assertThat(store.replace(voucher(random, UUID.randomUUID())), is(false));
+    }
+
+    static Map<UUID, Voucher> applyRandomOperations(VoucherStore store, Random random, int operations) {
+        var expected = new HashMap<UUID, Voucher>();
+        for (int i = 0; i < operations; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                var voucher = voucher(random, new UUID(random.nextLong(), random.nextLong()));
+                store.put(voucher);
+                expected.put(voucher.getVoucherId(), voucher);
+            } else if (operation < 8) {
+                var voucherId = expected.keySet().iterator().next();
+                var voucher = voucher(random, voucherId);
+                assertThat(store.replace(voucher), is(true));
+                expected.put(voucherId, voucher);
+            } else {
+                var voucherId = expected.keySet().iterator().next();
+                assertThat(store.remove(voucherId), is(true));
+                assertThat(store.remove(voucherId), is(false));
+                expected.remove(voucherId);
+            }
+        }
+        return expected;
+    }
+
+    private static Voucher voucher(Random random, UUID voucherId) {
+        return random.nextBoolean()
+                ? new Voucher(voucherId, VoucherType.FIXED_AMOUNT, DiscountValue.ofScaled(VoucherType.FIXED_AMOUNT, random.nextInt(1_000_000)))
+                : new Voucher(voucherId, VoucherType.PERCENT_DISCOUNT, DiscountValue.ofScaled(VoucherType.PERCENT_DISCOUNT, random.nextInt(10_001)));
+    }
+
+}